@@ -4,43 +4,74 @@ import app.audio.Collections.Album;
 import app.audio.Collections.AudioCollection;
 import app.audio.Collections.Playlist;
 import app.audio.Collections.Podcast;
-import app.audio.Files.AudioFile;
 import app.audio.Files.Episode;
 import app.audio.Files.Song;
+import app.catalog.AlbumIndex;
+import app.catalog.Catalog;
+import app.catalog.ConcatView;
+import app.catalog.SongColumns;
+import app.catalog.SongLikes;
+import app.catalog.SongUsage;
+import app.catalog.Symbol;
+import app.player.ListenPipeline;
+import app.player.PlaybackReferences;
 import app.player.Player;
+import app.user.AdLedger;
 import app.user.Announcement;
+import app.user.ArtistListenSink;
 import app.user.Artist;
 import app.user.Event;
 import app.user.Host;
+import app.user.HostListenSink;
 import app.user.Merchandise;
+import app.user.PlaylistRegistry;
+import app.user.PremiumLedger;
 import app.user.User;
+import app.user.UserRegistry;
 import app.user.UserAbstract;
+import app.user.UserListenSink;
+import app.utils.CounterMap;
 import fileio.input.CommandInput;
-import fileio.input.EpisodeInput;
-import fileio.input.PodcastInput;
-import fileio.input.SongInput;
 import fileio.input.UserInput;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 /**
  * The type Admin.
  */
 public final class Admin {
+    private final UserRegistry registry = new UserRegistry();
     @Getter
-    private List<User> users = new ArrayList<>();
+    private final List<User> users = registry.getUsers();
     @Getter
-    private List<Artist> artists = new ArrayList<>();
+    private final List<Artist> artists = registry.getArtists();
     @Getter
-    private List<Host> hosts = new ArrayList<>();
-    private List<Song> songs = new ArrayList<>();
-    private List<Podcast> podcasts = new ArrayList<>();
+    private final List<Host> hosts = registry.getHosts();
+    private Catalog catalog;
+    private final AlbumIndex albumIndex = new AlbumIndex();
+    private int nextSongId = 0;
+    private int nextPlaylistId = 0;
+    @Getter
+    private SongLikes songLikes = new SongLikes(0);
+    @Getter
+    private final SongUsage songUsage = new SongUsage();
+    @Getter
+    private final PlaylistRegistry playlistRegistry = new PlaylistRegistry();
+    @Getter
+    private final ListenPipeline listens;
+    private List<Song> songs = Collections.emptyList();
+    private SongColumns addedSongColumns = SongColumns.of(Collections.emptyList());
+    private List<SongColumns> songColumns = Collections.emptyList();
+    private final Map<String, List<Song>> songsByGenre = new HashMap<>();
+    private List<Podcast> podcasts = Collections.emptyList();
     private int timestamp = 0;
+    private final PlaybackScheduler scheduler = new PlaybackScheduler();
     private final int limit = 5;
     private final int dateStringLength = 10;
     private final int dateFormatSize = 3;
@@ -51,110 +82,181 @@ public final class Admin {
     private final int dateDayLowerLimit = 1;
     private final int dateDayHigherLimit = 31;
     private final int dateFebHigherLimit = 28;
-    private static Admin instance;
+    private final PlatformContext context;
     @Getter
     @Setter
-    private static Integer prvTmp = 0;
+    private Integer prvTmp = 0;
     @Getter
     @Setter
-    private static Song ad;
-    @Getter
-    @Setter
-    private static int noOfAds = 0;
+    private int noOfAds = 0;
     @Getter
     @Setter
     private static final double roundNumber = 100.0;
 
-    private Admin() {
+    /**
+     * Instantiates a new Admin for a run, with the songs and podcasts of its catalog. The users
+     * of the catalog are registered separately, once the admin is set in the context.
+     *
+     * @param context the context of the run
+     */
+    public Admin(final PlatformContext context) {
+        this.context = context;
+        this.listens = new ListenPipeline(List.of(new UserListenSink(),
+                                                  new ArtistListenSink(this),
+                                                  new HostListenSink(this),
+                                                  new PremiumLedger(), new AdLedger()));
+        setCatalog(context.getCatalog());
     }
 
     /**
-     * Gets instance.
+     * Sets users.
      *
-     * @return the instance
+     * @param userInputList the user input list
      */
-    public static Admin getInstance() {
-        if (instance == null) {
-            instance = new Admin();
+    public void setUsers(final List<UserInput> userInputList) {
+        for (UserInput userInput : userInputList) {
+            User user = new User(context, userInput.getUsername(), userInput.getAge(),
+                                 userInput.getCity());
+            registry.add(user);
+            scheduler.register(user);
+            playlistRegistry.addUser(user);
         }
-        return instance;
     }
 
     /**
-     * Reset instance.
+     * Sets the catalog this run is played against.
+     *
+     * The catalog songs and podcasts are shared, the users are created for this run by
+     * {@link #setUsers(List)}.
+     *
+     * @param newCatalog the catalog
      */
-    public static void resetInstance() {
-        instance = null;
+    private void setCatalog(final Catalog newCatalog) {
+        catalog = newCatalog;
+        nextSongId = catalog.getSongs().size();
+        songLikes = new SongLikes(nextSongId);
+        podcasts = catalog.getPodcasts();
+        publishSongs();
     }
 
     /**
-     * Sets users.
+     * Publishes a new version of the songs after the albums changed.
      *
-     * @param userInputList the user input list
+     * The library songs are never copied, only the songs added by artists are, so adding or
+     * removing an album costs as much as the albums added during the run. Views handed out
+     * before keep showing the songs as they were. The columns of the added songs are rebuilt
+     * the same way, next to the columns of the library built when it was loaded.
      */
-    public void setUsers(final List<UserInput> userInputList) {
-        for (UserInput userInput : userInputList) {
-            users.add(new User(userInput.getUsername(), userInput.getAge(), userInput.getCity()));
-        }
+    private void publishSongs() {
+        List<Song> addedSongs = Collections.unmodifiableList(albumIndex.getSongs());
+        songs = new ConcatView<>(catalog.getSongs(), addedSongs);
+        addedSongColumns = SongColumns.of(addedSongs);
+        songColumns = List.of(catalog.getSongColumns(), addedSongColumns);
+        songsByGenre.clear();
     }
 
     /**
-     * Sets songs.
+     * Allocates the id of a new playlist.
      *
-     * @param songInputList the song input list
+     * @return an id no other playlist of the run has
      */
-    public void setSongs(final List<SongInput> songInputList) {
-        for (SongInput songInput : songInputList) {
-            songs.add(new Song(songInput.getName(), songInput.getDuration(), songInput.getAlbum(),
-                    songInput.getTags(), songInput.getLyrics(), songInput.getGenre(),
-                    songInput.getReleaseYear(), songInput.getArtist()));
-        }
+    public int nextPlaylistId() {
+        return nextPlaylistId++;
     }
 
     /**
-     * Sets podcasts.
+     * Gets songs.
      *
-     * @param podcastInputList the podcast input list
+     * @return a read-only snapshot of the songs, library songs first and then the ones added
+     *         by artists
      */
-    public void setPodcasts(final List<PodcastInput> podcastInputList) {
-        for (PodcastInput podcastInput : podcastInputList) {
-            List<Episode> episodes = new ArrayList<>();
-            for (EpisodeInput episodeInput : podcastInput.getEpisodes()) {
-                episodes.add(new Episode(episodeInput.getName(),
-                                         episodeInput.getDuration(),
-                                         episodeInput.getDescription()));
+    public List<Song> getSongs() {
+        return songs;
+    }
+
+    /**
+     * Gets the songs of a genre, library songs first and then the ones added by artists.
+     *
+     * @param genre the genre
+     * @return a read-only snapshot of the songs of that genre
+     */
+    public List<Song> getSongsByGenre(final String genre) {
+        return songsByGenre.computeIfAbsent(genre, key -> {
+            List<Song> added = new ArrayList<>();
+            Symbol symbol = context.getSymbols().find(key);
+            if (symbol != null) {
+                BitSet genreIds = new BitSet();
+                genreIds.set(symbol.getId());
+                addedSongColumns.select(genreIds, null, null, added);
             }
-            podcasts.add(new Podcast(podcastInput.getName(), podcastInput.getOwner(), episodes));
-        }
+            return new ConcatView<>(catalog.getSongsByGenre(key),
+                                    Collections.unmodifiableList(added));
+        });
     }
 
     /**
-     * Gets songs.
+     * Gets the songs that match the given genre, release year and artist filters, by scanning
+     * the song columns. Genres and artists are matched ignoring case.
      *
-     * @return the songs
+     * @param genre       the genre filter, or null
+     * @param releaseYear the release year filter, or null
+     * @param artist      the artist filter, or null
+     * @return the matching songs, in the order of {@link #getSongs()}
      */
-    public List<Song> getSongs() {
-        return new ArrayList<>(songs);
+    public List<Song> filterSongs(final String genre, final String releaseYear,
+                                  final String artist) {
+        if (genre == null && releaseYear == null && artist == null) {
+            return songs;
+        }
+
+        BitSet genreIds = genre == null ? null : context.getSymbols().matchingIgnoreCase(genre);
+        IntPredicate year = releaseYear == null ? null : SongColumns.yearFilter(releaseYear);
+        BitSet artistIds = artist == null ? null
+                                         : context.getSymbols().matchingIgnoreCase(artist);
+        List<Song> matches = new ArrayList<>();
+        for (SongColumns columns : songColumns) {
+            columns.select(genreIds, year, artistIds, matches);
+        }
+        return matches;
     }
 
     /**
      * Gets podcasts.
      *
-     * @return the podcasts
+     * @return a read-only snapshot of the podcasts
      */
     public List<Podcast> getPodcasts() {
-        return new ArrayList<>(podcasts);
+        return podcasts;
+    }
+
+    /**
+     * Publishes a new version of the podcasts, copied from the current one and changed.
+     *
+     * @param change the change to make to the copy
+     */
+    private void publishPodcasts(final Consumer<List<Podcast>> change) {
+        List<Podcast> newPodcasts = new ArrayList<>(podcasts);
+        change.accept(newPodcasts);
+        podcasts = Collections.unmodifiableList(newPodcasts);
     }
 
     /**
      * Gets playlists.
      *
-     * @return the playlists
+     * @return the playlists, user after user
      */
     public List<Playlist> getPlaylists() {
-        return users.stream()
-                    .flatMap(user -> user.getPlaylists().stream())
-                    .collect(Collectors.toList());
+        return playlistRegistry.getPlaylists();
+    }
+
+    /**
+     * Gets the playlists a user can see.
+     *
+     * @param username the username
+     * @return the public playlists and the private ones of the user, user after user
+     */
+    public List<Playlist> getVisiblePlaylists(final String username) {
+        return playlistRegistry.getVisiblePlaylists(registry.getUser(username));
     }
 
     /**
@@ -190,10 +292,7 @@ public final class Admin {
      * @return the user
      */
     public User getUser(final String username) {
-        return users.stream()
-                    .filter(user -> user.getUsername().equals(username))
-                    .findFirst()
-                    .orElse(null);
+        return registry.getUser(username);
     }
 
     /**
@@ -203,10 +302,7 @@ public final class Admin {
      * @return the artist
      */
     public Artist getArtist(final String username) {
-        return artists.stream()
-                .filter(artist -> artist.getUsername().equals(username))
-                .findFirst()
-                .orElse(null);
+        return registry.getArtist(username);
     }
 
     /**
@@ -216,15 +312,18 @@ public final class Admin {
      * @return the host
      */
     public Host getHost(final String username) {
-        return hosts.stream()
-                .filter(artist -> artist.getUsername().equals(username))
-                .findFirst()
-                .orElse(null);
+        return registry.getHost(username);
     }
 
     /**
      * Update timestamp.
      *
+     * Users are not simulated here: each one catches up when it is touched, through
+     * {@link #catchUp(User)} or {@link #catchUpAll()}. The timestamp is only logged if some
+     * track ends by then, and every track end is fired right away once the log of pending
+     * timestamps is full, so the log stays bounded however long the run goes without a
+     * command touching every user.
+     *
      * @param newTimestamp the new timestamp
      */
     public void updateTimestamp(final int newTimestamp) {
@@ -238,275 +337,68 @@ public final class Admin {
             throw new IllegalArgumentException("Invalid timestamp" + newTimestamp);
         }
 
-        users.forEach(user -> user.simulateTime(elapsed, user));
+        scheduler.step(newTimestamp);
     }
 
     /**
-     * Checks if a specified key exists in a given hash map.
+     * Brings a single user up to the current timestamp, before a command that only touches the
+     * state of that user.
      *
-     * This method checks whether the specified key exists in the provided hash map.
+     * If a track of the user ends in the meantime, the statistics and revenues it updates are
+     * shared with the other users, so the track ends of every user are fired first, in the
+     * original order.
      *
-     * @param map The hash map to be checked.
-     * @param key The key to be checked for existence.
-     * @return {@code true} if the key exists in the map, {@code false} otherwise.
-     */
-    private static boolean exists(final HashMap<String, Integer> map, final String key) {
-        return map.containsKey(key);
-    }
-
-     /**
-     * Updates statistics in a given hash map by incrementing the count of a specified key.
-     *
-     * This method checks if the provided key already exists in the hash map. If it does, it
-     * increments the count associated with that key. If the key does not exist, a new entry
-     * is created with the key and a count of 1.
-     *
-     * @param map The hash map to be updated.
-     * @param key The key for which the count is to be updated.
-     */
-    public static void updateStatistics(final HashMap<String, Integer> map, final String key) {
-        if (exists(map, key)) {
-            map.put(key, map.get(key) + 1);
-        } else {
-            map.put(key, 1);
-        }
-    }
-
-    /**
-     * Updates user and artist statistics when an audio file is played from the user's library.
-     *
-     * This method updates the statistics for both the user and the artist when an audio file is
-     * played from the user's library. If the audio file is a podcast episode, it updates the top
-     * episodes for the user. For songs, it increments the listener count, updates top songs,
-     * albums, and fans for the artist. It also updates top artists, genres, songs, and albums
-     * for the user. Premium users additionally update their premium history, while non-premium
-     * users update their advertisement administration.
-     *
-     * @param user The user for whom statistics are being updated.
-     * @param player The player containing the current audio file being played.
-     */
-    private static void updateLibrary(final User user, final Player player) {
-        if (player.getType().equals("podcast")) {
-            Episode episode = (Episode) player.getCurrentAudioFile();
-            String name = episode.getName();
-            updateStatistics(user.getTopEpisodes(), name);
-            return;
-        }
-
-        Song song = (Song) player.getCurrentAudioFile();
-
-        Artist artist = Admin.getInstance().getArtist(song.getArtist());
-        artist.setHasStatistics(true);
-        updateStatistics(artist.getTopSongs(), song.getName());
-        updateStatistics(artist.getTopAlbums(), song.getAlbum());
-        updateStatistics(artist.getTopFans(), user.getUsername());
-        artist.setListeners(artist.getListeners() + 1);
-        artist.setListened(true);
-
-        updateStatistics(user.getTopArtists(), song.getArtist());
-        updateStatistics(user.getTopGenres(), song.getGenre());
-        updateStatistics(user.getTopSongs(), song.getName());
-        updateStatistics(user.getTopAlbums(), song.getAlbum());
-        if (user.isPremium()) {
-            updateStatistics(user.getPremiumHistorySong(), song.getName());
-            updateStatistics(user.getPremiumHistoryArtist(), song.getArtist());
-        } else {
-            updateStatistics(user.getAdAdministration().getAllSongs(), song.getName());
-            updateStatistics(user.getAdAdministration().getAllArtists(), song.getArtist());
-        }
-    }
-
-    /**
-     * Updates user and artist statistics when a song from a playlist is played.
-     *
-     * This method updates the statistics for both the user and the artist when a song from a
-     * playlist is played. It increments the listener count, updates top songs, albums, and
-     * fans for the artist. It also updates top artists, genres, songs, and albums for the user.
-     * Premium users additionally update their premium history, while non-premium users update
-     * their advertisement administration.
-     *
-     * @param user The user for whom statistics are being updated.
-     * @param player The player containing the current audio file being played.
+     * @param user the user
      */
-    private static void updatePlaylist(final User user, final Player player) {
-        Song song = (Song) player.getCurrentAudioFile();
-
-        Artist artist = Admin.getInstance().getArtist(song.getArtist());
-        artist.setHasStatistics(true);
-        updateStatistics(artist.getTopSongs(), song.getName());
-        updateStatistics(artist.getTopAlbums(), song.getAlbum());
-        updateStatistics(artist.getTopFans(), user.getUsername());
-        artist.setListeners(artist.getListeners() + 1);
-        artist.setListened(true);
-
-        updateStatistics(user.getTopArtists(), song.getArtist());
-        updateStatistics(user.getTopGenres(), song.getGenre());
-        updateStatistics(user.getTopSongs(), song.getName());
-        updateStatistics(user.getTopAlbums(), song.getAlbum());
-        if (user.isPremium()) {
-            updateStatistics(user.getPremiumHistorySong(), song.getName());
-            updateStatistics(user.getPremiumHistoryArtist(), song.getArtist());
-        } else {
-            user.getAdAdministration().addSong(song.getName());
-            user.getAdAdministration().addArtist(song.getArtist());
+    public void catchUp(final User user) {
+        if (user.hasPlaybackEventBy(timestamp)) {
+            catchUpAll();
         }
+        user.catchUp(timestamp);
     }
 
     /**
-     * Updates user and host statistics when a podcast episode is played.
+     * Schedules the end of the current track of a user, after a command changed its player.
      *
-     * This method updates the statistics for both the user and the host when a podcast
-     * episode is played. It updates the user's top episodes and the host's top episodes
-     * and listeners count.
-     *
-     * @param user The user for whom statistics are being updated.
-     * @param player The player containing the current audio file being played.
+     * @param user the user
      */
-    private void updatePodcast(final User user, final Player player) {
-        Episode episode = (Episode) player.getCurrentAudioFile();
-        String name = episode.getName();
-        updateStatistics(user.getTopEpisodes(), name);
-
-        Host host = Admin.getInstance().
-                getHost(player.getSource().getAudioCollection().getOwner());
-        if (host == null) {
-            return;
-        }
-        updateStatistics(host.getTopEpisodes(), name);
-        updateStatistics(host.getListeners(), user.getUsername());
+    public void reschedule(final User user) {
+        scheduler.schedule(user);
     }
 
     /**
-     * Updates user and artist statistics when a song from an album is played.
-     *
-     * This method updates the statistics for both the user and the artist when a song from
-     * an album is played. It increments the listener count, updates top songs, albums, and
-     * fans for the artist.It also updates top artists, genres, songs, and albums for the user.
-     * Premium users additionally update their premium history, while non-premium users update
-     * their advertisement administration.
+     * Fires every track end up to the current timestamp, before a command that reads or
+     * changes state shared between users.
      *
-     * @param user The user for whom statistics are being updated.
-     * @param player The player containing the current audio file being played.
-     */
-    public void updateAlbum(final User user, final Player player) {
-        Song song = (Song) player.getCurrentAudioFile();
-
-        Artist artist = Admin.getInstance().getArtist(song.getArtist());
-        artist.setHasStatistics(true);
-        updateStatistics(artist.getTopSongs(), song.getName());
-        updateStatistics(artist.getTopAlbums(), song.getAlbum());
-        updateStatistics(artist.getTopFans(), user.getUsername());
-        artist.setListeners(artist.getListeners() + 1);
-        artist.setListened(true);
-
-        updateStatistics(user.getTopArtists(), song.getArtist());
-        updateStatistics(user.getTopGenres(), song.getGenre());
-        updateStatistics(user.getTopSongs(), song.getName());
-        updateStatistics(user.getTopAlbums(), song.getAlbum());
-        if (user.isPremium()) {
-            updateStatistics(user.getPremiumHistorySong(), song.getName());
-            updateStatistics(user.getPremiumHistoryArtist(), song.getArtist());
-        } else {
-            user.getAdAdministration().addSong(song.getName());
-            user.getAdAdministration().addArtist(song.getArtist());
-        }
-    }
-
-    /**
-     * Sorts and updates a user's hash map of statistics based on the specified type.
-     *
-     * This method takes an old hash map of statistics, sorts it first by value in descending
-     * order, and then by key in ascending order. The sorted hash map is then updated in the
-     * user's statistics based on the specified type, which can be "songs," "albums," "artists,"
-     * "genres," or "episodes."
-     *
-     * @param user The user for whom the statistics hash map is being sorted and updated.
-     * @param oldMap The original hash map of statistics to be sorted.
-     * @param type The type of statistics to update in the user's profile (e.g., "songs,"
-     *             "albums," etc.).
-     * @throws IllegalStateException If an unexpected type value is provided.
+     * Only the users whose track ends by now are simulated, in the same order as when every
+     * user was simulated on every timestamp change, so the side effects of the track ends fire
+     * in that order too. The other users are caught up when they are touched again.
      */
-    public void keepHashesSorted(final User user,
-                                 final HashMap<String, Integer> oldMap,
-                                 final String type) {
-        // sort all 5 hashes that a user have by value, and after by key
-        HashMap<String, Integer> hashMap = new HashMap<>(oldMap);
-
-        List<Map.Entry<String, Integer>> entryList = new ArrayList<>(hashMap.entrySet());
-
-        Collections.sort(entryList, new Comparator<Map.Entry<String, Integer>>() {
-            public int compare(final Map.Entry<String, Integer> o1,
-                               final Map.Entry<String, Integer> o2) {
-                if (o1.getValue().equals(o2.getValue())) {
-                    return o1.getKey().compareTo(o2.getKey());
-                }
-                return o2.getValue().compareTo(o1.getValue());
-            }
-        });
-
-        Map<String, Integer> sortedHashMap = new LinkedHashMap<>();
-
-        for (Map.Entry<String, Integer> entry : entryList) {
-            sortedHashMap.put(entry.getKey(), entry.getValue());
-        }
-
-        switch (type) {
-            case "songs" -> user.setTopSongs((HashMap<String, Integer>) sortedHashMap);
-            case "albums" -> user.setTopAlbums((HashMap<String, Integer>) sortedHashMap);
-            case "artists" -> user.setTopArtists((HashMap<String, Integer>) sortedHashMap);
-            case "genres" -> user.setTopGenres((HashMap<String, Integer>) sortedHashMap);
-            case "episodes" -> user.setTopEpisodes((HashMap<String, Integer>) sortedHashMap);
-            default -> throw new IllegalStateException("Unexpected value: " + type);
-        }
+    public void catchUpAll() {
+        scheduler.advance();
     }
 
     /**
-     * Updates user statistics based on the currently played source in the player.
+     * Records the track the player of a user just started, after the user loaded a source.
      *
-     * This method checks the current player source type and updates the user's statistics
-     * accordingly. Supported source types include LIBRARY, PLAYLIST, PODCAST, and ALBUM.
-     * The user's top songs, albums, artists, genres, and episodes are then sorted and updated.
+     * The event is applied to every sink right away, unlike the ones reported while the player
+     * is simulated, which are applied once per burst.
      *
      * @param user The user for whom statistics are being updated.
      */
     public void updateWrappedIndividually(final User user) {
-        Player player = user.getPlayer();
-        if (player.getSource() == null) {
-            return;
-        }
-        if (player.isComeBack()) {
-            return;
-        }
-        user.setHasStatistics(true);
-        String type = player.getSource().getType().toString();
-        switch (type) {
-            case "LIBRARY" -> updateLibrary(user, player);
-            case "PLAYLIST" -> updatePlaylist(user, player);
-            case "PODCAST" -> updatePodcast(user, player);
-            case "ALBUM" -> updateAlbum(user, player);
-            default -> throw new IllegalStateException("Unexpected value: " + type);
-        }
-        keepHashesSorted(user, user.getTopSongs(), "songs");
-        keepHashesSorted(user, user.getTopAlbums(), "albums");
-        keepHashesSorted(user, user.getTopArtists(), "artists");
-        keepHashesSorted(user, user.getTopGenres(), "genres");
-        keepHashesSorted(user, user.getTopEpisodes(), "episodes");
+        listens.emit(user.getPlayer().listenEvent(user, user.getSimulatedUntil()));
+        listens.flush();
     }
 
     /**
-     * Update wrapped.
+     * Gets the account with a username, whatever its role.
+     *
+     * @param username the username
+     * @return the account
      */
     private UserAbstract getAbstractUser(final String username) {
-        ArrayList<UserAbstract> allUsers = new ArrayList<>();
-
-        allUsers.addAll(users);
-        allUsers.addAll(artists);
-        allUsers.addAll(hosts);
-
-        return allUsers.stream()
-                       .filter(userPlatform -> userPlatform.getUsername().equals(username))
-                       .findFirst()
-                       .orElse(null);
+        return registry.get(username);
     }
 
     /**
@@ -527,11 +419,15 @@ public final class Admin {
         }
 
         if (type.equals("user")) {
-            users.add(new User(username, age, city));
+            User user = new User(context, username, age, city);
+            registry.add(user);
+            scheduler.register(user);
+            playlistRegistry.addUser(user);
         } else if (type.equals("artist")) {
-            artists.add(new Artist(username, age, city));
+            registry.add(new Artist(context.getSymbols(), username, age, city,
+                                    context.getArtistStatisticsCapacity()));
         } else {
-            hosts.add(new Host(username, age, city));
+            registry.add(new Host(context.getSymbols(), username, age, city));
         }
 
         return "The username %s has been added successfully.".formatted(username);
@@ -568,22 +464,26 @@ public final class Admin {
      * @return the string
      */
     private String deleteNormalUser(final User user) {
-        if (user.getPlaylists().stream().anyMatch(playlist -> users.stream().map(User::getPlayer)
-                .filter(player -> player != user.getPlayer())
-                .map(Player::getCurrentAudioCollection)
-                .filter(Objects::nonNull)
-                .anyMatch(collection -> collection == playlist))) {
+        PlaybackReferences references = context.getPlaybackReferences();
+        AudioCollection ownCollection = user.getPlayer().getCurrentAudioCollection();
+        if (user.getPlaylists().stream().anyMatch(playlist -> references.count(playlist)
+                > (playlist == ownCollection ? 1 : 0))) {
             return "%s can't be deleted.".formatted(user.getUsername());
         }
 
-        user.getLikedSongs().forEach(Song::dislike);
+        user.getLikedSongs().forEach(songLikes::dislike);
         user.getFollowedPlaylists().forEach(Playlist::decreaseFollowers);
 
         users.stream().filter(otherUser -> otherUser != user)
              .forEach(otherUser -> otherUser.getFollowedPlaylists()
                                             .removeAll(user.getPlaylists()));
 
-        users.remove(user);
+        songUsage.removeUser(user);
+        playlistRegistry.removeUser(user);
+        registry.remove(user);
+        scheduler.remove(user);
+        user.getPlayer().releaseReferences();
+        user.setCurrentPage(null);
         return "%s was successfully deleted.".formatted(user.getUsername());
     }
 
@@ -594,18 +494,33 @@ public final class Admin {
      * @return the string
      */
     private String deleteHost(final Host host) {
-        if (host.getPodcasts().stream().anyMatch(podcast -> getAudioCollectionsStream()
-                .anyMatch(collection -> collection == podcast))
-                || users.stream().anyMatch(user -> user.getCurrentPage() == host.getPage())) {
+        PlaybackReferences references = context.getPlaybackReferences();
+        if (host.getPodcasts().stream().anyMatch(references::isPlaying)
+                || context.getPageViewers().isViewed(host.getPage())) {
             return "%s can't be deleted.".formatted(host.getUsername());
         }
 
-        host.getPodcasts().forEach(podcast -> podcasts.remove(podcast));
-        hosts.remove(host);
+        publishPodcasts(newPodcasts -> newPodcasts.removeAll(host.getPodcasts()));
+        registry.remove(host);
 
         return "%s was successfully deleted.".formatted(host.getUsername());
     }
 
+    /**
+     * Removes a song from the likes and the playlists of the users that have it there.
+     *
+     * @param song the song
+     */
+    private void removeSongEverywhere(final Song song) {
+        for (User user : songUsage.getLikers(song)) {
+            user.getLikedSongs().remove(song);
+        }
+        for (Playlist playlist : songUsage.getPlaylists(song)) {
+            playlist.removeAllOf(song);
+        }
+        songUsage.removeSong(song);
+    }
+
     /**
      * Delete artist string.
      *
@@ -613,20 +528,18 @@ public final class Admin {
      * @return the string
      */
     private String deleteArtist(final Artist artist) {
-        if (artist.getAlbums().stream().anyMatch(album -> album.getSongs().stream()
-            .anyMatch(song -> getAudioFilesStream().anyMatch(audioFile -> audioFile == song))
-            || getAudioCollectionsStream().anyMatch(collection -> collection == album))
-            || users.stream().anyMatch(user -> user.getCurrentPage() == artist.getPage())) {
+        PlaybackReferences references = context.getPlaybackReferences();
+        if (artist.getAlbums().stream().anyMatch(album -> references.isPlaying(album)
+            || album.getSongs().stream().anyMatch(references::isPlaying))
+            || context.getPageViewers().isViewed(artist.getPage())) {
             return "%s can't be deleted.".formatted(artist.getUsername());
         }
 
-        users.forEach(user -> artist.getAlbums().forEach(album -> album.getSongs().forEach(song -> {
-            user.getLikedSongs().remove(song);
-            user.getPlaylists().forEach(playlist -> playlist.removeSong(song));
-        })));
+        artist.getAlbums().forEach(album -> album.getSongs().forEach(this::removeSongEverywhere));
 
-        songs.removeAll(artist.getAllSongs());
-        artists.remove(artist);
+        albumIndex.removeArtist(artist);
+        publishSongs();
+        registry.remove(artist);
         return "%s was successfully deleted.".formatted(artist.getUsername());
     }
 
@@ -648,13 +561,14 @@ public final class Admin {
         }
 
         Artist currentArtist = (Artist) currentUser;
-        if (currentArtist.getAlbums().stream()
-            .anyMatch(album -> album.getName().equals(albumName))) {
+        if (albumIndex.getAlbum(currentArtist, albumName) != null) {
             return "%s has another album with the same name.".formatted(username);
         }
 
         List<Song> newSongs = commandInput.getSongs().stream()
-                                       .map(songInput -> new Song(songInput.getName(),
+                                       .map(songInput -> new Song(context.getSymbols(),
+                                                                  nextSongId++,
+                                                                  songInput.getName(),
                                                                   songInput.getDuration(),
                                                                   albumName,
                                                                   songInput.getTags(),
@@ -670,12 +584,12 @@ public final class Admin {
             return "%s has the same song at least twice in this album.".formatted(username);
         }
 
-        songs.addAll(newSongs);
-        currentArtist.getAlbums().add(new Album(albumName,
+        albumIndex.add(currentArtist, new Album(albumName,
                                                 commandInput.getDescription(),
                                                 username,
                                                 newSongs,
                                                 commandInput.getReleaseYear()));
+        publishSongs();
         currentArtist.notifyObservers("New Album", "New Album from %s.".formatted(username));
         return "%s has added new album successfully.".formatted(username);
     }
@@ -699,31 +613,28 @@ public final class Admin {
         }
 
         Artist currentArtist = (Artist) currentUser;
-        Album searchedAlbum = currentArtist.getAlbum(albumName);
+        Album searchedAlbum = albumIndex.getAlbum(currentArtist, albumName);
         if (searchedAlbum == null) {
             return "%s doesn't have an album with the given name.".formatted(username);
         }
 
-        if (getAudioCollectionsStream().anyMatch(collection -> collection == searchedAlbum)) {
+        PlaybackReferences references = context.getPlaybackReferences();
+        if (references.isPlaying(searchedAlbum)) {
             return "%s can't delete this album.".formatted(username);
         }
 
         for (Song song : searchedAlbum.getSongs()) {
-            if (getAudioCollectionsStream().anyMatch(collection -> collection.containsTrack(song))
-                || getAudioFilesStream().anyMatch(audioFile -> audioFile == song)) {
+            if (references.isPlaying(song) || references.getCollections().stream()
+                                                        .anyMatch(collection -> collection
+                                                                  .containsTrack(song))) {
                 return "%s can't delete this album.".formatted(username);
             }
         }
 
-        for (Song song: searchedAlbum.getSongs()) {
-            users.forEach(user -> {
-                user.getLikedSongs().remove(song);
-                user.getPlaylists().forEach(playlist -> playlist.removeSong(song));
-            });
-            songs.remove(song);
-        }
+        searchedAlbum.getSongs().forEach(this::removeSongEverywhere);
 
-        currentArtist.getAlbums().remove(searchedAlbum);
+        albumIndex.remove(searchedAlbum);
+        publishSongs();
         return "%s deleted the album successfully.".formatted(username);
     }
 
@@ -765,7 +676,7 @@ public final class Admin {
 
         Podcast newPodcast = new Podcast(podcastName, username, episodes);
         currentHost.getPodcasts().add(newPodcast);
-        podcasts.add(newPodcast);
+        publishPodcasts(newPodcasts -> newPodcasts.add(newPodcast));
 
         return "%s has added new podcast successfully.".formatted(username);
     }
@@ -795,12 +706,12 @@ public final class Admin {
             return "%s doesn't have a podcast with the given name.".formatted(username);
         }
 
-        if (getAudioCollectionsStream().anyMatch(collection -> collection == searchedPodcast)) {
+        if (context.getPlaybackReferences().isPlaying(searchedPodcast)) {
             return "%s can't delete this podcast.".formatted(username);
         }
 
         currentHost.getPodcasts().remove(searchedPodcast);
-        podcasts.remove(searchedPodcast);
+        publishPodcasts(newPodcasts -> newPodcasts.remove(searchedPodcast));
         return "%s deleted the podcast successfully.".formatted(username);
     }
 
@@ -996,7 +907,7 @@ public final class Admin {
             return null;
         }
         Song song = (Song) player.getCurrentAudioFile();
-        return Admin.getInstance().getArtist(song.getArtist());
+        return getArtist(song.getArtist());
     }
 
     /**
@@ -1011,7 +922,7 @@ public final class Admin {
             return null;
         }
         Podcast podcast = (Podcast) player.getCurrentAudioCollection();
-        return Admin.getInstance().getHost(podcast.getOwner());
+        return getHost(podcast.getOwner());
     }
 
     /**
@@ -1119,16 +1030,6 @@ public final class Admin {
         return users.stream().filter(User::isStatus).map(User::getUsername).toList();
     }
 
-    private Stream<AudioCollection> getAudioCollectionsStream() {
-        return users.stream().map(User::getPlayer)
-                    .map(Player::getCurrentAudioCollection).filter(Objects::nonNull);
-    }
-
-    private Stream<AudioFile> getAudioFilesStream() {
-        return users.stream().map(User::getPlayer)
-                    .map(Player::getCurrentAudioFile).filter(Objects::nonNull);
-    }
-
     /**
      * Gets top 5 album list.
      *
@@ -1140,7 +1041,7 @@ public final class Admin {
 
         final Map<Album, Integer> albumLikes = new HashMap<>();
         albums.forEach(album -> albumLikes.put(album, album.getSongs().stream()
-                                          .map(Song::getLikes).reduce(0, Integer::sum)));
+                                          .map(songLikes::get).reduce(0, Integer::sum)));
 
         return albums.stream().sorted((o1, o2) -> {
             if ((int) albumLikes.get(o1) == albumLikes.get(o2)) {
@@ -1157,8 +1058,8 @@ public final class Admin {
      */
     public List<String> getTop5ArtistList() {
         final Map<Artist, Integer> artistLikes = new HashMap<>();
-        artists.forEach(artist -> artistLikes.put(artist, artist.getAllSongs().stream()
-                                              .map(Song::getLikes).reduce(0, Integer::sum)));
+        artists.forEach(artist -> artistLikes.put(artist, albumIndex.getSongs(artist).stream()
+                                              .map(songLikes::get).reduce(0, Integer::sum)));
 
         return artists.stream().sorted(Comparator.comparingInt(artistLikes::get).reversed())
                                .limit(limit).map(Artist::getUsername).toList();
@@ -1170,16 +1071,9 @@ public final class Admin {
      * @return the top 5 songs
      */
     public List<String> getTop5Songs() {
-        List<Song> sortedSongs = new ArrayList<>(songs);
-        sortedSongs.sort(Comparator.comparingInt(Song::getLikes).reversed());
         List<String> topSongs = new ArrayList<>();
-        int count = 0;
-        for (Song song : sortedSongs) {
-            if (count >= limit) {
-                break;
-            }
+        for (Song song : SongColumns.mostLiked(songColumns, songLikes, limit)) {
             topSongs.add(song.getName());
-            count++;
         }
         return topSongs;
     }
@@ -1216,7 +1110,7 @@ public final class Admin {
      * artists obtained from the Admin.
      */
     public void updateRanking() {
-        List<Artist> listenedArtists = filterListenedArtists(Admin.getInstance().getArtists());
+        List<Artist> listenedArtists = filterListenedArtists(getArtists());
         calculateTotalRevenue(listenedArtists);
         listenedArtists.sort(Comparator.comparing(Artist::getTotalRevenue).
                 reversed().thenComparing(Artist::getUsername));
@@ -1324,25 +1218,25 @@ public final class Admin {
      */
     public void giveMoneyWhenCancel(final User user) {
         // extract from the user's history the songs that he listened to
-        HashMap<String, Integer> history = user.getPremiumHistorySong();
+        CounterMap<String> history = user.getPremiumHistorySong();
+        CounterMap<Symbol> artistHistory = user.getPremiumHistoryArtist();
 
         Double totalListenedSongs = calculateTotalListenedSongs(history);
 
-        for (Map.Entry<String, Integer> hist : user.getPremiumHistoryArtist().entrySet()) {
-            Artist artist = Admin.getInstance().getArtist(hist.getKey());
-            Double listenedSongs = Double.valueOf(hist.getValue());
+        for (int i = 0; i < artistHistory.size(); i++) {
+            Artist artist = getArtist(artistHistory.getKey(i).getName());
+            Double listenedSongs = Double.valueOf(artistHistory.getCount(i));
             Double money = (listenedSongs / totalListenedSongs) * user.getSubscriptionPrice();
             artist.setSongRevenue(artist.getSongRevenue() + money);
 
             // add the money for each song
-            for (Map.Entry<String, Integer> entry : user.getPremiumHistorySong().entrySet()) {
-                String songName = entry.getKey();
-                double interMoney = (entry.getValue() / totalListenedSongs)
+            for (int j = 0; j < history.size(); j++) {
+                String songName = history.getKey(j);
+                double interMoney = (history.getCount(j) / totalListenedSongs)
                         * user.getSubscriptionPrice();
                 money = Math.round(interMoney * roundNumber) / roundNumber;
                 // check if the artist has the song
-                if (artist.getAllSongs().stream().anyMatch(song ->
-                        song.getName().equals(songName))) {
+                if (albumIndex.hasSong(artist, songName)) {
                     // add the song in the artist profit list if it does not exist, and if
                     // exists, just add the money
                     if (artist.getProfitForEachSong().containsKey(songName)) {
@@ -1368,7 +1262,7 @@ public final class Admin {
      */
     public void giveMoneyFree(final Double price, final User user) {
         // Extract from the user's history the songs that he listened to
-        HashMap<String, Integer> history = user.getAdAdministration().getAllSongs();
+        CounterMap<String> history = user.getAdAdministration().getAllSongs();
 
         // Calculate total listened songs
         Double totalListenedSongs = calculateTotalListenedSongs(history);
@@ -1391,10 +1285,8 @@ public final class Admin {
      * @param history A map containing songs and their listen counts.
      * @return The total number of listened songs from the provided history.
      */
-    private Double calculateTotalListenedSongs(final HashMap<String, Integer> history) {
-        return history.values().stream()
-                .mapToDouble(Integer::doubleValue)
-                .sum();
+    private Double calculateTotalListenedSongs(final CounterMap<String> history) {
+        return (double) history.total();
     }
 
     /**
@@ -1413,12 +1305,12 @@ public final class Admin {
     private void distributeMoneyToArtists(final Double price,
                                           final Double totalListenedSongs,
                                           final User user,
-                                          final HashMap<String, Integer> map) {
-        for (Map.Entry<String, Integer> hist : map.entrySet()) {
-            String artistName = hist.getKey();
-            Artist artist = Admin.getInstance().getArtist(artistName);
+                                          final CounterMap<Symbol> map) {
+        for (int i = 0; i < map.size(); i++) {
+            String artistName = map.getKey(i).getName();
+            Artist artist = getArtist(artistName);
 
-            Double listenedSongs = Double.valueOf(hist.getValue());
+            Double listenedSongs = Double.valueOf(map.getCount(i));
             Double money = (listenedSongs / totalListenedSongs) * price;
 
             // Update artist song revenue
@@ -1445,10 +1337,10 @@ public final class Admin {
     private void distributeMoneyToSongs(final Double price,
                                         final Double totalListenedSongs,
                                         final Artist artist,
-                                        final HashMap<String, Integer> map) {
-        for (Map.Entry<String, Integer> entry : map.entrySet()) {
-            String songName = entry.getKey();
-            Integer songListens = entry.getValue();
+                                        final CounterMap<String> map) {
+        for (int i = 0; i < map.size(); i++) {
+            String songName = map.getKey(i);
+            Integer songListens = map.getCount(i);
 
             // Calculate money produced by each song
             Double moneyPerSong = (songListens / totalListenedSongs) * price;
@@ -1473,7 +1365,7 @@ public final class Admin {
     private void updateArtistProfitForEachSong(final Artist artist,
                                                final String songName,
                                                final Double money) {
-        if (artist.getAllSongs().stream().anyMatch(song -> song.getName().equals(songName))) {
+        if (albumIndex.hasSong(artist, songName)) {
             artist.getProfitForEachSong().merge(songName, money, Double::sum);
         }
     }
@@ -1489,7 +1381,7 @@ public final class Admin {
      */
     public void giveMerchMoney(final Integer price, final String name) {
         // find the artist based on the merch name's
-        Artist artist = Admin.getInstance().getArtists().stream().
+        Artist artist = getArtists().stream().
                 filter(artist1 -> artist1.getMerch().stream().
                         anyMatch(merch -> merch.getName().equals(name))).findFirst().orElse(null);
 
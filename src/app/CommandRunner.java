@@ -25,26 +25,26 @@ public final class CommandRunner {
      * The Object mapper.
      */
     private static ObjectMapper objectMapper = new ObjectMapper();
-    private static Admin admin;
+    private final Admin admin;
 
     /**
-     * Update admin.
+     * Instantiates a new Command runner for a run.
+     *
+     * @param context the context of the run
      */
-    public static void updateAdmin() {
-        admin = Admin.getInstance();
-    }
-
-    private CommandRunner() {
+    public CommandRunner(final PlatformContext context) {
+        this.admin = context.getAdmin();
     }
 
     /**
      * Search object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode search(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void search(final CommandInput commandInput, final User user,
+                       final ObjectNode objectNode) {
         Filters filters = new Filters(commandInput.getFilters());
         String type = commandInput.getType();
         ArrayList<String> results = new ArrayList<>();
@@ -55,733 +55,554 @@ public final class CommandRunner {
             message = "Search returned " + results.size() + " results";
         }
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
         objectNode.put("results", objectMapper.valueToTree(results));
-
-        return objectNode;
     }
 
     /**
      * Select object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode select(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
-
+    public void select(final CommandInput commandInput, final User user,
+                       final ObjectNode objectNode) {
         String message = user.select(commandInput.getItemNumber());
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Load object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode load(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void load(final CommandInput commandInput, final User user,
+                     final ObjectNode objectNode) {
         String message = user.load();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Play pause object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode playPause(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void playPause(final CommandInput commandInput, final User user,
+                          final ObjectNode objectNode) {
         String message = user.playPause();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Repeat object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode repeat(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void repeat(final CommandInput commandInput, final User user,
+                       final ObjectNode objectNode) {
         String message = user.repeat();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Shuffle object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode shuffle(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void shuffle(final CommandInput commandInput, final User user,
+                        final ObjectNode objectNode) {
         Integer seed = commandInput.getSeed();
         String message = user.shuffle(seed);
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Forward object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode forward(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void forward(final CommandInput commandInput, final User user,
+                        final ObjectNode objectNode) {
         String message = user.forward();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Backward object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode backward(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void backward(final CommandInput commandInput, final User user,
+                         final ObjectNode objectNode) {
         String message = user.backward();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Like object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode like(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void like(final CommandInput commandInput, final User user,
+                     final ObjectNode objectNode) {
         String message = user.like();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Next object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode next(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void next(final CommandInput commandInput, final User user,
+                     final ObjectNode objectNode) {
         String message = user.next();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Prev object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode prev(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void prev(final CommandInput commandInput, final User user,
+                     final ObjectNode objectNode) {
         String message = user.prev();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Create playlist object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode createPlaylist(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void createPlaylist(final CommandInput commandInput, final User user,
+                               final ObjectNode objectNode) {
         String message = user.createPlaylist(commandInput.getPlaylistName(),
                                              commandInput.getTimestamp());
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Add remove in playlist object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode addRemoveInPlaylist(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void addRemoveInPlaylist(final CommandInput commandInput, final User user,
+                                    final ObjectNode objectNode) {
         String message = user.addRemoveInPlaylist(commandInput.getPlaylistId());
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Switch visibility object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode switchVisibility(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void switchVisibility(final CommandInput commandInput, final User user,
+                                 final ObjectNode objectNode) {
         String message = user.switchPlaylistVisibility(commandInput.getPlaylistId());
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Show playlists object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode showPlaylists(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void showPlaylists(final CommandInput commandInput, final User user,
+                              final ObjectNode objectNode) {
         ArrayList<PlaylistOutput> playlists = user.showPlaylists();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(playlists));
-
-        return objectNode;
     }
 
     /**
      * Follow object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode follow(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void follow(final CommandInput commandInput, final User user,
+                       final ObjectNode objectNode) {
         String message = user.follow();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Status object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode status(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void status(final CommandInput commandInput, final User user,
+                       final ObjectNode objectNode) {
         PlayerStats stats = user.getPlayerStats();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("stats", objectMapper.valueToTree(stats));
-
-        return objectNode;
     }
 
     /**
      * Show liked songs object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode showLikedSongs(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void showLikedSongs(final CommandInput commandInput, final User user,
+                               final ObjectNode objectNode) {
         ArrayList<String> songs = user.showPreferredSongs();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(songs));
-
-        return objectNode;
     }
 
     /**
      * Gets preferred genre.
      *
      * @param commandInput the command input
-     * @return the preferred genre
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode getPreferredGenre(final CommandInput commandInput) {
-        User user = admin.getUser(commandInput.getUsername());
+    public void getPreferredGenre(final CommandInput commandInput, final User user,
+                                  final ObjectNode objectNode) {
         String preferredGenre = user.getPreferredGenre();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(preferredGenre));
-
-        return objectNode;
     }
 
     /**
      * Switch connection status object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode switchConnectionStatus(final CommandInput commandInput) {
+    public void switchConnectionStatus(final CommandInput commandInput, final User user,
+                                       final ObjectNode objectNode) {
         String message = admin.switchStatus(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Add user object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode addUser(final CommandInput commandInput) {
+    public void addUser(final CommandInput commandInput, final User user,
+                        final ObjectNode objectNode) {
         String message = admin.addNewUser(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Delete user object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode deleteUser(final CommandInput commandInput) {
+    public void deleteUser(final CommandInput commandInput, final User user,
+                           final ObjectNode objectNode) {
         String message = admin.deleteUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Add album object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode addAlbum(final CommandInput commandInput) {
+    public void addAlbum(final CommandInput commandInput, final User user,
+                         final ObjectNode objectNode) {
         String message = admin.addAlbum(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Remove album object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode removeAlbum(final CommandInput commandInput) {
+    public void removeAlbum(final CommandInput commandInput, final User user,
+                            final ObjectNode objectNode) {
         String message = admin.removeAlbum(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Show albums object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode showAlbums(final CommandInput commandInput) {
+    public void showAlbums(final CommandInput commandInput, final User user,
+                           final ObjectNode objectNode) {
         Artist artist = admin.getArtist(commandInput.getUsername());
         ArrayList<AlbumOutput> albums = artist.showAlbums();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(albums));
-
-        return objectNode;
     }
 
     /**
      * Add event object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode addEvent(final CommandInput commandInput) {
+    public void addEvent(final CommandInput commandInput, final User user,
+                         final ObjectNode objectNode) {
         String message = admin.addEvent(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Remove event object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode removeEvent(final CommandInput commandInput) {
+    public void removeEvent(final CommandInput commandInput, final User user,
+                            final ObjectNode objectNode) {
         String message = admin.removeEvent(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Add podcast object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode addPodcast(final CommandInput commandInput) {
+    public void addPodcast(final CommandInput commandInput, final User user,
+                           final ObjectNode objectNode) {
         String message = admin.addPodcast(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Remove podcast object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode removePodcast(final CommandInput commandInput) {
+    public void removePodcast(final CommandInput commandInput, final User user,
+                              final ObjectNode objectNode) {
         String message = admin.removePodcast(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Show podcasts object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode showPodcasts(final CommandInput commandInput) {
+    public void showPodcasts(final CommandInput commandInput, final User user,
+                             final ObjectNode objectNode) {
         Host host = admin.getHost(commandInput.getUsername());
         List<PodcastOutput> podcasts = host.getPodcasts().stream().map(PodcastOutput::new).toList();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(podcasts));
-
-        return objectNode;
     }
 
     /**
      * Add merch object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode addMerch(final CommandInput commandInput) {
+    public void addMerch(final CommandInput commandInput, final User user,
+                         final ObjectNode objectNode) {
         String message = admin.addMerch(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Add announcement object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode addAnnouncement(final CommandInput commandInput) {
+    public void addAnnouncement(final CommandInput commandInput, final User user,
+                                final ObjectNode objectNode) {
         String message = admin.addAnnouncement(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Remove announcement object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode removeAnnouncement(final CommandInput commandInput) {
+    public void removeAnnouncement(final CommandInput commandInput, final User user,
+                                   final ObjectNode objectNode) {
         String message = admin.removeAnnouncement(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Gets online users.
      *
      * @param commandInput the command input
-     * @return the online users
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode getOnlineUsers(final CommandInput commandInput) {
+    public void getOnlineUsers(final CommandInput commandInput, final User user,
+                               final ObjectNode objectNode) {
         List<String> onlineUsers = admin.getOnlineUsers();
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(onlineUsers));
-
-        return objectNode;
     }
 
     /**
      * Gets all users.
      *
      * @param commandInput the command input
-     * @return the all users
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode getAllUsers(final CommandInput commandInput) {
+    public void getAllUsers(final CommandInput commandInput, final User user,
+                            final ObjectNode objectNode) {
         List<String> users = admin.getAllUsers();
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(users));
-
-        return objectNode;
     }
 
     /**
      * Change page object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode changePage(final CommandInput commandInput) {
+    public void changePage(final CommandInput commandInput, final User user,
+                           final ObjectNode objectNode) {
         String message = admin.changePage(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Print current page object node.
      *
      * @param commandInput the command input
-     * @return the object node
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode printCurrentPage(final CommandInput commandInput) {
+    public void printCurrentPage(final CommandInput commandInput, final User user,
+                                 final ObjectNode objectNode) {
         String message = admin.printCurrentPage(commandInput);
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("message", message);
-
-        return objectNode;
     }
 
     /**
      * Gets top 5 album list.
      *
      * @param commandInput the command input
-     * @return the top 5 album list
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode getTop5AlbumList(final CommandInput commandInput) {
+    public void getTop5AlbumList(final CommandInput commandInput, final User user,
+                                 final ObjectNode objectNode) {
         List<String> albums = admin.getTop5AlbumList();
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(albums));
-
-        return objectNode;
     }
 
     /**
      * Gets top 5 artist list.
      *
      * @param commandInput the command input
-     * @return the top 5 artist list
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode getTop5ArtistList(final CommandInput commandInput) {
+    public void getTop5ArtistList(final CommandInput commandInput, final User user,
+                                  final ObjectNode objectNode) {
         List<String> artists = admin.getTop5ArtistList();
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(artists));
-
-        return objectNode;
     }
 
     /**
      * Gets top 5 songs.
      *
      * @param commandInput the command input
-     * @return the top 5 songs
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode getTop5Songs(final CommandInput commandInput) {
+    public void getTop5Songs(final CommandInput commandInput, final User user,
+                             final ObjectNode objectNode) {
         List<String> songs = admin.getTop5Songs();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(songs));
-
-        return objectNode;
     }
 
     /**
      * Gets top 5 playlists.
      *
      * @param commandInput the command input
-     * @return the top 5 playlists
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode getTop5Playlists(final CommandInput commandInput) {
+    public void getTop5Playlists(final CommandInput commandInput, final User user,
+                                 final ObjectNode objectNode) {
         List<String> playlists = admin.getTop5Playlists();
 
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
         objectNode.put("result", objectMapper.valueToTree(playlists));
-
-        return objectNode;
     }
 
     /**
@@ -790,67 +611,72 @@ public final class CommandRunner {
      * This method generates a JSON object containing statistical data based on the user, artist,
      * or host specified in the given {@code commandInput}. The structure of the JSON object
      * varies based on the type of entity, including top albums, songs, fans, and listeners count.
+     * When the statistics of an artist are approximate, the most their counts can be
+     * overestimated by is reported next to them, and the listeners count is only a lower bound.
      *
      * @param commandInput The command input containing information about the user, artist,
      *                     or host.
-     * @return The wrapped JSON object with statistical data or a message
-     * indicating no data available.
+     * @param user         not resolved for this command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode wrapped(final CommandInput commandInput) {
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        User user = admin.getUser(commandInput.getUsername());
+    public void wrapped(final CommandInput commandInput, final User user,
+                        final ObjectNode objectNode) {
+        User account = admin.getUser(commandInput.getUsername());
         Artist artist = admin.getArtist(commandInput.getUsername());
         Host host = admin.getHost(commandInput.getUsername());
 
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-
         if (artist != null) {
             if (!artist.isHasStatistics()) {
                 objectNode.put("message", "No data to show for artist %s."
                         .formatted(artist.getUsername()));
-                return objectNode;
+                return;
             }
 
             JsonNodeFactory factory = JsonNodeFactory.instance;
             ObjectNode result = factory.objectNode();
             result.set("topAlbums", objectMapper.valueToTree(artist.getTopAlbumsM()));
             result.set("topSongs", objectMapper.valueToTree(artist.getTopSongsM()));
+            if (!artist.getTopSongs().isExact()) {
+                result.put("topSongsMaxError", artist.getTopSongs().getMaxError());
+            }
             result.set("topFans", objectMapper.valueToTree(artist.getTopFansM()));
+            if (!artist.getTopFans().isExact()) {
+                result.put("topFansMaxError", artist.getTopFans().getMaxError());
+            }
             result.set("listeners", objectMapper.valueToTree(artist.getTopFans().size()));
+            if (!artist.getTopFans().isExact()) {
+                result.put("listenersIsLowerBound", true);
+            }
             objectNode.set("result", result);
 
-            return objectNode;
+            return;
         }
         if (host != null) {
             JsonNodeFactory factory = JsonNodeFactory.instance;
             ObjectNode result = factory.objectNode();
 
-            result.set("topEpisodes", objectMapper.valueToTree(host.getTopEpisodes()));
+            result.set("topEpisodes", objectMapper.valueToTree(host.getTopEpisodes().toHashMap()));
             result.set("listeners", objectMapper.valueToTree(host.getListeners().size()));
 
             objectNode.set("result", result);
 
-            return objectNode;
+            return;
         }
-        if (!user.isHasStatistics()) {
+        if (!account.isHasStatistics()) {
             objectNode.put("message", "No data to show for user %s.".
-                    formatted(user.getUsername()));
+                    formatted(account.getUsername()));
 
-            return objectNode;
+            return;
         }
 
         JsonNodeFactory factory = JsonNodeFactory.instance;
         ObjectNode result = factory.objectNode();
-        result.set("topArtists", objectMapper.valueToTree(user.getTopArtistsM()));
-        result.set("topGenres", objectMapper.valueToTree(user.getTopGenresM()));
-        result.set("topSongs", objectMapper.valueToTree(user.getTopSongsM()));
-        result.set("topAlbums", objectMapper.valueToTree(user.getTopAlbumsM()));
-        result.set("topEpisodes", objectMapper.valueToTree(user.getTopEpisodesM()));
+        result.set("topArtists", objectMapper.valueToTree(account.getTopArtistsM()));
+        result.set("topGenres", objectMapper.valueToTree(account.getTopGenresM()));
+        result.set("topSongs", objectMapper.valueToTree(account.getTopSongsM()));
+        result.set("topAlbums", objectMapper.valueToTree(account.getTopAlbumsM()));
+        result.set("topEpisodes", objectMapper.valueToTree(account.getTopEpisodesM()));
         objectNode.set("result", result);
-
-        return objectNode;
     }
 
     /**
@@ -863,21 +689,22 @@ public final class CommandRunner {
      *
      * @return The JSON object summarizing the program's end with artist-related information.
      */
-    public static ObjectNode endProgramm() {
+    public ObjectNode endProgramm() {
+        admin.catchUpAll();
         ObjectNode objectNode = objectMapper.createObjectNode();
         objectNode.put("command", "endProgram");
         JsonNodeFactory factory = JsonNodeFactory.instance;
         ObjectNode result = factory.objectNode();
 
-        for (User user : Admin.getInstance().getUsers()) {
+        for (User user : admin.getUsers()) {
             if (!user.isPremium()) {
                 continue;
             }
-            Admin.getInstance().giveMoneyWhenCancel(user);
+            admin.giveMoneyWhenCancel(user);
         }
 
-        Admin.getInstance().updateRanking();
-        for (Artist artist : Admin.getInstance().getArtists()) {
+        admin.updateRanking();
+        for (Artist artist : admin.getArtists()) {
             if (!artist.isListened()) {
                 continue;
             }
@@ -904,30 +731,19 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about the user's premium
      *                     subscription purchase.
-     * @return The JSON object indicating the result of the premium subscription purchase.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode buyPremium(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist.".
-                    formatted(user.getUsername()));
-            return objectNode;
-        }
+    public void buyPremium(final CommandInput commandInput, final User user,
+                           final ObjectNode objectNode) {
         if (user.isPremium()) {
             objectNode.put("message", "%s is already a premium user.".
                     formatted(user.getUsername()));
-            return objectNode;
+            return;
         }
         user.setPremium(true);
         objectNode.put("message", "%s bought the subscription successfully.".
                 formatted(user.getUsername()));
-
-        return objectNode;
     }
 
     /**
@@ -941,36 +757,25 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about the user's premium
      *                     subscription cancellation.
-     * @return The JSON object indicating the result of the premium subscription cancellation.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode cancelPremium(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist.".
-                    formatted(user.getUsername()));
-            return objectNode;
-        }
+    public void cancelPremium(final CommandInput commandInput, final User user,
+                              final ObjectNode objectNode) {
         if (!user.isPremium()) {
             objectNode.put("message", "%s is not a premium user.".
                     formatted(user.getUsername()));
-            return objectNode;
+            return;
         }
         user.setPremium(false);
         objectNode.put("message", "%s cancelled the subscription successfully.".
                 formatted(user.getUsername()));
 
         // give the money to the artists
-        Admin.getInstance().giveMoneyWhenCancel(user);
+        admin.giveMoneyWhenCancel(user);
         // clear the list for this user
         user.getPremiumHistorySong().clear();
         user.getPremiumHistoryArtist().clear();
-
-        return objectNode;
     }
 
     /**
@@ -984,24 +789,15 @@ public final class CommandRunner {
      * @param commandInput The command input containing information about the ad break initiation,
      *                     including the username
      *                     and optional ad price.
-     * @return The JSON object indicating the result of the ad break initiation.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode adBreak(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist.".
-                    formatted(user.getUsername()));
-            return objectNode;
-        }
-
+    public void adBreak(final CommandInput commandInput, final User user,
+                        final ObjectNode objectNode) {
         if (user.getPlayer().getSource() == null) {
             objectNode.put("message", "%s is not playing any music.".
                     formatted(user.getUsername()));
-            return objectNode;
+            return;
         }
 
         user.getPlayer().setShouldInsertAd(true);
@@ -1009,7 +805,6 @@ public final class CommandRunner {
         user.setAdPrice(price);
 
         objectNode.put("message", "Ad inserted successfully.");
-        return objectNode;
     }
 
     /**
@@ -1023,38 +818,27 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about the merch purchase,
      *                     including the username, timestamp, and the name of the merch.
-     * @return The JSON object indicating the result of the merch purchase initiation.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode buyMerch(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-
+    public void buyMerch(final CommandInput commandInput, final User user,
+                         final ObjectNode objectNode) {
         ArtistPage artistPage = (ArtistPage) user.getCurrentPage();
 
-
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist.".
-                    formatted(user.getUsername()));
-            return objectNode;
-        }
-
         if (artistPage == null) {
             objectNode.put("message", "Cannot buy merch from this page.");
-            return objectNode;
+            return;
         }
         String merch = commandInput.getName();
         if (!artistPage.getMerch().contains(merch)) {
             objectNode.put("message", "The merch %s doesn't exist.".formatted(merch));
-            return objectNode;
+            return;
         }
 
         // set the artist as listened
         // Artist extends ContentCreator, which has the field page, from which we can check if it
         // is the artist we are looking for
-        for (Artist artist : Admin.getInstance().getArtists()) {
+        for (Artist artist : admin.getArtists()) {
             ArtistPage artistPag = (ArtistPage) artist.getPage();
             if (artistPag.getMerch().contains(merch)) {
                 artist.setListened(true);
@@ -1064,11 +848,10 @@ public final class CommandRunner {
 
         Integer price = artistPage.getMerchPrice(merch);
         user.getMerch().add(merch);
-        Admin.getInstance().giveMerchMoney(price, merch);
+        admin.giveMerchMoney(price, merch);
 
         objectNode.put("message", "%s has added new merch successfully.".
                 formatted(user.getUsername()));
-        return objectNode;
     }
 
     /**
@@ -1080,22 +863,12 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about fetching merch,
      *                     including the username and timestamp.
-     * @return The JSON object indicating the result of the merch retrieval,
-     * including the user's merch collection.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode seeMerch(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist.".
-                    formatted(user.getUsername()));
-            return objectNode;
-        }
+    public void seeMerch(final CommandInput commandInput, final User user,
+                         final ObjectNode objectNode) {
         objectNode.put("result", objectMapper.valueToTree(user.getMerch()));
-        return objectNode;
     }
 
     /**
@@ -1110,33 +883,21 @@ public final class CommandRunner {
      * @param commandInput The command input containing information about updating
      *                     recommendations, including the username, timestamp, and recommendation
      *                     type.
-     * @return The JSON object indicating the result of the recommendation update operation,
-     *         including a success message or a message indicating no new recommendations were
-     *         found.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode updateRecommendations(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist.".
-                    formatted(user.getUsername()));
-            return objectNode;
-        }
+    public void updateRecommendations(final CommandInput commandInput, final User user,
+                                      final ObjectNode objectNode) {
         // check if there are new recommendations
         boolean shouldUpdate = user.checkForNewRecommendations(commandInput.
                 getRecommendationType());
         if (!shouldUpdate) {
             objectNode.put("message", "No new recommendations were found");
-            return objectNode;
+            return;
         }
         user.updateRecommendations(commandInput.getRecommendationType());
         objectNode.put("message", "The recommendations for user %s have been updated successfully."
                 .formatted(user.getUsername()));
-
-        return objectNode;
     }
 
     /**
@@ -1151,39 +912,27 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about the subscription
      *                     operation, including the username, timestamp, and other details.
-     * @return The JSON object indicating the result of the subscription operation,
-     *         including a success message or a message indicating the requirement to be on the
-     *         page of an artist or host.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode subscribe(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist."
-                    .formatted(user.getUsername()));
-            return objectNode;
-        }
+    public void subscribe(final CommandInput commandInput, final User user,
+                          final ObjectNode objectNode) {
         ArtistPage artistPage = (ArtistPage) user.getCurrentPage();
         if (artistPage == null) {
             objectNode.put("message", "To subscribe you need to be on the page "
                     + "of an artist or host.");
-            return objectNode;
+            return;
         }
-        Artist artist = Admin.getInstance().getArtist(artistPage.getOwner());
+        Artist artist = admin.getArtist(artistPage.getOwner());
         if (artist.getObservers().contains(user)) {
             artist.removeObserver(user);
             objectNode.put("message", "%s unsubscribed from %s successfully."
                     .formatted(user.getUsername(), artist.getUsername()));
-            return objectNode;
+            return;
         }
         artist.addObserver(user);
         objectNode.put("message", "%s subscribed to %s successfully."
                 .formatted(user.getUsername(), artist.getUsername()));
-
-        return objectNode;
     }
 
     /**
@@ -1197,21 +946,11 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about the request, including
      *                     the username, timestamp, and other details.
-     * @return The JSON object containing the retrieved notifications structured as an array with
-     *         "name" and "description" fields, and a message indicating a successful retrieval of
-     *         notifications.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode getNotifications(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist."
-                    .formatted(user.getUsername()));
-            return objectNode;
-        }
+    public void getNotifications(final CommandInput commandInput, final User user,
+                                 final ObjectNode objectNode) {
         // put all the notifications into a filed called notifications from the list, where
         // "name": key   and "description": value
         ArrayNode notifications = objectMapper.createArrayNode();
@@ -1224,8 +963,6 @@ public final class CommandRunner {
 
         objectNode.put("notifications", notifications);
         user.clearNotifications();
-
-        return objectNode;
     }
 
     /**
@@ -1237,30 +974,20 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about the request, including
      *                     the username, timestamp, and other details.
-     * @return The JSON object containing the command, user, timestamp, and a message indicating
-     *         the success or failure of navigating the user to the previous page.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode previousPage(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist."
-                    .formatted(user.getUsername()));
-            return objectNode;
-        }
+    public void previousPage(final CommandInput commandInput, final User user,
+                             final ObjectNode objectNode) {
         // change the current page of the user to the previous one
         user.getHistory().goBack(user);
         // check if it worked
         if (user.getHistory().getCurrentIndex() == -1) {
             objectNode.put("message", "There are no pages left to go back.");
-            return objectNode;
+            return;
         }
         objectNode.put("message", "The user %s has navigated successfully to the previous page."
                 .formatted(user.getUsername()));
-        return objectNode;
     }
 
     /**
@@ -1272,30 +999,20 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about the request, including
      *                     the username, timestamp, and other details.
-     * @return The JSON object containing the command, user, timestamp, and a message indicating
-     *         the success or failure of navigating the user to the next page.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode nextPage(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist."
-                    .formatted(user.getUsername()));
-            return objectNode;
-        }
+    public void nextPage(final CommandInput commandInput, final User user,
+                         final ObjectNode objectNode) {
         // change the current page of the user to the next one
         user.getHistory().goForward(user);
         // check if it worked
         if (user.getHistory().getCurrentIndex() == user.getHistory().getHistory().size() - 1) {
             objectNode.put("message", "There are no pages left to go forward.");
-            return objectNode;
+            return;
         }
         objectNode.put("message", "The user %s has navigated successfully to the next page."
                 .formatted(user.getUsername()));
-        return objectNode;
     }
 
     /**
@@ -1308,29 +1025,19 @@ public final class CommandRunner {
      *
      * @param commandInput The command input containing information about the request, including
      *                     the username, timestamp, and other details.
-     * @return The JSON object containing the command, user, timestamp, and a message indicating
-     *         the success or failure of loading the recommendations.
+     * @param user         the user issuing the command
+     * @param objectNode   the output of the command
      */
-    public static ObjectNode loadRecommendations(final CommandInput commandInput) {
-        User user = Admin.getInstance().getUser(commandInput.getUsername());
-        ObjectNode objectNode = objectMapper.createObjectNode();
-        objectNode.put("command", "loadRecommendations");
-        objectNode.put("user", user.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        if (user == null) {
-            objectNode.put("message", "The username %s doesn't exist."
-                    .formatted(user.getUsername()));
-            return objectNode;
-        }
-
+    public void loadRecommendations(final CommandInput commandInput, final User user,
+                                    final ObjectNode objectNode) {
         if (user.getLastTypeOfRecommendations().equals("empty")) {
             objectNode.put("message", "No recommendations available.");
-            return objectNode;
+            return;
         }
 
         if (!user.isStatus()) {
             objectNode.put("message", "%s is offline.".formatted(user.getUsername()));
-            return objectNode;
+            return;
         }
 
         user.getPlayer().setSource(user.getLastRecommendation(),
@@ -1338,10 +1045,8 @@ public final class CommandRunner {
         user.getSearchBar().clearSelection();
         user.getPlayer().pause();
 
-        Admin.getInstance().updateWrappedIndividually(user);
+        admin.updateWrappedIndividually(user);
 
         objectNode.put("message", "Playback loaded successfully.");
-
-        return objectNode;
     }
 }
@@ -0,0 +1,65 @@
+package app;
+
+import app.audio.Files.Song;
+import app.catalog.Catalog;
+import app.catalog.SymbolTable;
+import app.pages.PageViewers;
+import app.player.PlaybackReferences;
+import lombok.Getter;
+
+/**
+ * Everything one run of the platform works with.
+ *
+ * A context is created for every input file and handed to the objects that need the state of
+ * the run (the command runner, the users, their players and search bars), so runs share
+ * nothing but the immutable catalog and can be processed in parallel. Usernames and the content
+ * added during the run are interned in a symbol table of the run, on top of the catalog one.
+ */
+@Getter
+public final class PlatformContext {
+    private final Catalog catalog;
+    private final SymbolTable symbols;
+    private final Song ad;
+    private final PlaybackReferences playbackReferences = new PlaybackReferences();
+    private final PageViewers pageViewers = new PageViewers();
+    private final int artistStatisticsCapacity;
+    private Admin admin;
+
+    private PlatformContext(final Catalog catalog, final int artistStatisticsCapacity) {
+        this.catalog = catalog;
+        this.symbols = new SymbolTable(catalog.getSymbols());
+        this.ad = catalog.getSongs().get(0);
+        this.artistStatisticsCapacity = artistStatisticsCapacity;
+    }
+
+    /**
+     * Opens a run played against a catalog, which counts the statistics of artists exactly.
+     *
+     * @param catalog the catalog
+     * @return the context of the run
+     */
+    public static PlatformContext open(final Catalog catalog) {
+        return open(catalog, 0);
+    }
+
+    /**
+     * Opens a run played against a catalog.
+     *
+     * The admin is only created once the rest of the context is, and the users of the catalog
+     * are only registered once the admin is set, so everything they build sees a complete
+     * context.
+     *
+     * @param catalog                  the catalog
+     * @param artistStatisticsCapacity the most songs and fans of each artist whose listens are
+     *                                 counted, with approximate counts, or 0 to count all of
+     *                                 them exactly
+     * @return the context of the run
+     */
+    public static PlatformContext open(final Catalog catalog,
+                                       final int artistStatisticsCapacity) {
+        PlatformContext context = new PlatformContext(catalog, artistStatisticsCapacity);
+        context.admin = new Admin(context);
+        context.admin.setUsers(catalog.getUsers());
+        return context;
+    }
+}
@@ -0,0 +1,203 @@
+package app;
+
+import app.user.User;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the users that are playing something ordered by the timestamp their current track ends.
+ *
+ * Advancing time only touches the players whose track ends in the interval, so its cost
+ * depends on the number of playback events and not on the number of users. An entry is
+ * rescheduled whenever the user issues a command (pause, next, prev, forward, backward, load
+ * and so on); entries that no longer match the schedule of their user are dropped when they
+ * reach the head of the queue.
+ *
+ * The timestamps received between two advances are only logged when some track end is due by
+ * them, since a step no track ends in can't change the order anything fires in; as long as
+ * nothing ends, no step is kept at all. The log is a plain int array of at most
+ * {@link #MAX_STEPS} steps: once it is full, time is advanced right away, as if a command
+ * touching every user had come, so a long run of commands that only touch one user never
+ * holds more than that many steps.
+ */
+final class PlaybackScheduler {
+    private static final int IDLE = -1;
+    private static final int MAX_STEPS = 1024;
+    private static final int MIN_STEPS = 16;
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::getTime)
+            .thenComparingInt(Entry::getOrder);
+
+    /**
+     * The schedule of a registered user.
+     */
+    private static final class Slot {
+        private final int order;
+        private int end = IDLE;
+
+        Slot(final int order) {
+            this.order = order;
+        }
+    }
+
+    /**
+     * A track end, or the step of time it falls in while time is being advanced.
+     */
+    private static final class Entry {
+        private final int time;
+        private final int order;
+        private final User user;
+
+        Entry(final int time, final int order, final User user) {
+            this.time = time;
+            this.order = order;
+            this.user = user;
+        }
+
+        int getTime() {
+            return time;
+        }
+
+        int getOrder() {
+            return order;
+        }
+    }
+
+    private final Map<User, Slot> slots = new IdentityHashMap<>();
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>(ORDER);
+    private int nextOrder = 0;
+    private int[] steps = new int[MIN_STEPS];
+    private int stepCount = 0;
+
+    /**
+     * Registers a new user. Users are simulated in the order they were registered in.
+     *
+     * @param user the user
+     */
+    void register(final User user) {
+        slots.put(user, new Slot(nextOrder++));
+    }
+
+    /**
+     * Forgets a deleted user, whose track ends must not fire anymore.
+     *
+     * @param user the user
+     */
+    void remove(final User user) {
+        slots.remove(user);
+    }
+
+    /**
+     * Schedules the end of the current track of a user, after the state of its player changed.
+     *
+     * @param user the user, which must be caught up to the current timestamp
+     */
+    void schedule(final User user) {
+        Slot slot = slots.get(user);
+        if (slot == null) {
+            return;
+        }
+
+        int end = nextEnd(user);
+        if (end == slot.end) {
+            return;
+        }
+        slot.end = end;
+        if (end != IDLE) {
+            queue.add(new Entry(end, slot.order, user));
+        }
+    }
+
+    /**
+     * Logs a new timestamp, received after every timestamp logged so far.
+     *
+     * @param timestamp the timestamp
+     */
+    void step(final int timestamp) {
+        if (queue.isEmpty() || queue.peek().time > timestamp) {
+            return;
+        }
+
+        if (stepCount == steps.length) {
+            steps = Arrays.copyOf(steps, steps.length * 2);
+        }
+        steps[stepCount++] = timestamp;
+        if (stepCount == MAX_STEPS) {
+            advance();
+        }
+    }
+
+    /**
+     * Fires every track end up to the last timestamp logged.
+     *
+     * Within a step, the users are simulated in order, each one up to the end of the step,
+     * which is the order the track ends fired in when every user was simulated on every
+     * timestamp change.
+     */
+    void advance() {
+        if (stepCount == 0) {
+            return;
+        }
+        int last = steps[stepCount - 1];
+
+        PriorityQueue<Entry> due = new PriorityQueue<>(ORDER);
+        while (!queue.isEmpty() && queue.peek().time <= last) {
+            Entry entry = queue.poll();
+            Slot slot = slots.get(entry.user);
+            if (slot != null && slot.end == entry.time) {
+                due.add(new Entry(stepOf(entry.time), slot.order, entry.user));
+            }
+        }
+
+        while (!due.isEmpty()) {
+            Entry entry = due.poll();
+            User user = entry.user;
+            Slot slot = slots.get(user);
+
+            user.catchUp(entry.time);
+            slot.end = nextEnd(user);
+            if (slot.end == IDLE) {
+                continue;
+            }
+
+            if (slot.end <= last) {
+                due.add(new Entry(stepOf(slot.end), slot.order, user));
+            } else {
+                queue.add(new Entry(slot.end, slot.order, user));
+            }
+        }
+        stepCount = 0;
+    }
+
+    /**
+     * Finds the timestamp the current track of a user ends at. A track with nothing left ends
+     * as soon as any time passes.
+     */
+    private static int nextEnd(final User user) {
+        if (!user.isPlaying()) {
+            return IDLE;
+        }
+        return user.getSimulatedUntil()
+               + Math.max(user.getPlayer().getSource().getDuration(), 1);
+    }
+
+    /**
+     * Finds the step a track end falls in, which is the first timestamp not before the end.
+     */
+    private int stepOf(final int end) {
+        int low = 0;
+        int high = stepCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (steps[mid] < end) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return steps[low];
+    }
+}
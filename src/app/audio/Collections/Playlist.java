@@ -6,42 +6,87 @@ import app.utils.Enums;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The type Playlist.
+ *
+ * The songs are kept in order in a list where a removed song only leaves a hole, next to a map
+ * from every song to its first position and its number of occurrences, so adding a song,
+ * checking whether it is there and removing it cost O(1). The holes are compacted away, in one
+ * pass, once the songs are read by position or once they make up half of the list. A song is
+ * only searched for when a removed song occurs several times, which only recommendations built
+ * from the likes of several users can lead to.
  */
-@Getter
 public final class Playlist extends AudioCollection {
-    private final ArrayList<Song> songs;
+    @Getter
+    private final int id;
+    private final ArrayList<Song> entries;
+    private final Map<Song, Occurrences> occurrences;
+    private int holes;
+    @Getter
     private Enums.Visibility visibility;
+    @Getter
     private Integer followers;
+    @Getter
     private int timestamp;
 
     /**
      * Instantiates a new Playlist.
      *
+     * @param id    the id of the playlist, unique within a run and used as its identity
      * @param name  the name
      * @param owner the owner
      */
-    public Playlist(final String name, final String owner) {
-        this(name, owner, 0);
+    public Playlist(final int id, final String name, final String owner) {
+        this(id, name, owner, 0);
     }
 
     /**
      * Instantiates a new Playlist.
      *
+     * @param id        the id of the playlist, unique within a run and used as its identity
      * @param name      the name
      * @param owner     the owner
      * @param timestamp the timestamp
      */
-    public Playlist(final String name, final String owner, final int timestamp) {
+    public Playlist(final int id, final String name, final String owner,
+                    final int timestamp) {
         super(name, owner);
-        this.songs = new ArrayList<>();
+        this.id = id;
+        this.entries = new ArrayList<>();
+        this.occurrences = new HashMap<>();
+        this.holes = 0;
         this.visibility = Enums.Visibility.PUBLIC;
         this.followers = 0;
         this.timestamp = timestamp;
     }
 
+    /**
+     * Where a song occurs in the playlist.
+     */
+    private static final class Occurrences {
+        private int first;
+        private int count;
+
+        Occurrences(final int first) {
+            this.first = first;
+        }
+    }
+
+    /**
+     * Gets songs.
+     *
+     * @return a read-only view of the songs, in order, valid until the playlist changes
+     */
+    public List<Song> getSongs() {
+        compact();
+        return Collections.unmodifiableList(entries);
+    }
+
     /**
      * Contains song boolean.
      *
@@ -49,7 +94,7 @@ public final class Playlist extends AudioCollection {
      * @return the boolean
      */
     public boolean containsSong(final Song song) {
-        return songs.contains(song);
+        return occurrences.containsKey(song);
     }
 
     /**
@@ -58,16 +103,20 @@ public final class Playlist extends AudioCollection {
      * @param song the song
      */
     public void addSong(final Song song) {
-        songs.add(song);
+        occurrences.computeIfAbsent(song, key -> new Occurrences(entries.size())).count++;
+        entries.add(song);
     }
 
     /**
-     * Remove song.
+     * Removes the first occurrence of a song.
      *
      * @param song the song
      */
     public void removeSong(final Song song) {
-        songs.remove(song);
+        Occurrences songOccurrences = occurrences.get(song);
+        if (songOccurrences != null) {
+            removeAt(song, songOccurrences.first);
+        }
     }
 
     /**
@@ -76,7 +125,76 @@ public final class Playlist extends AudioCollection {
      * @param index the index
      */
     public void removeSong(final int index) {
-        songs.remove(index);
+        compact();
+        removeAt(entries.get(index), index);
+    }
+
+    private void removeAt(final Song song, final int index) {
+        Occurrences songOccurrences = occurrences.get(song);
+        clear(index);
+        if (--songOccurrences.count == 0) {
+            occurrences.remove(song);
+        } else if (songOccurrences.first == index) {
+            songOccurrences.first = entries.indexOf(song);
+        }
+        compactIfSparse();
+    }
+
+    /**
+     * Removes every occurrence of a song.
+     *
+     * @param song the song
+     */
+    public void removeAllOf(final Song song) {
+        Occurrences songOccurrences = occurrences.remove(song);
+        if (songOccurrences == null) {
+            return;
+        }
+
+        int left = songOccurrences.count;
+        for (int index = songOccurrences.first; left > 0; index++) {
+            if (song.equals(entries.get(index))) {
+                clear(index);
+                left--;
+            }
+        }
+        compactIfSparse();
+    }
+
+    private void clear(final int index) {
+        entries.set(index, null);
+        holes++;
+    }
+
+    private void compactIfSparse() {
+        if (holes * 2 > entries.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Removes the holes left by removed songs and moves the first position of every song
+     * accordingly.
+     */
+    private void compact() {
+        if (holes == 0) {
+            return;
+        }
+
+        int size = 0;
+        for (int index = 0; index < entries.size(); index++) {
+            Song song = entries.get(index);
+            if (song == null) {
+                continue;
+            }
+            Occurrences songOccurrences = occurrences.get(song);
+            if (songOccurrences.first == index) {
+                songOccurrences.first = size;
+            }
+            entries.set(size++, song);
+        }
+        entries.subList(size, entries.size()).clear();
+        holes = 0;
     }
 
     /**
@@ -106,12 +224,13 @@ public final class Playlist extends AudioCollection {
 
     @Override
     public int getNumberOfTracks() {
-        return songs.size();
+        return entries.size() - holes;
     }
 
     @Override
     public AudioFile getTrackByIndex(final int index) {
-        return songs.get(index);
+        compact();
+        return entries.get(index);
     }
 
     @Override
@@ -138,12 +257,17 @@ public final class Playlist extends AudioCollection {
 
     @Override
     public boolean containsTrack(final AudioFile track) {
-        return songs.contains(track);
+        return track instanceof Song song && occurrences.containsKey(song);
     }
 
-    @Override
-    public boolean equals(final Object obj) {
-        Playlist playlist = (Playlist) obj;
+    /**
+     * Checks whether another playlist has the same name, owner, timestamp, visibility,
+     * followers and songs, such as a recommendation rebuilt from the same data.
+     *
+     * @param playlist the other playlist, or null
+     * @return true if both playlists have the same content
+     */
+    public boolean hasSameContent(final Playlist playlist) {
         if (playlist == null) {
             return false;
         }
@@ -154,4 +278,14 @@ public final class Playlist extends AudioCollection {
                 && this.getFollowers().equals(playlist.getFollowers())
                 && this.getSongs().equals(playlist.getSongs());
     }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Playlist playlist && id == playlist.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(id);
+    }
 }
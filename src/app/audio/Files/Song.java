@@ -1,8 +1,12 @@
 package app.audio.Files;
 
+import app.catalog.SongColumns;
+import app.catalog.Symbol;
+import app.catalog.SymbolTable;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -10,17 +14,23 @@ import java.util.List;
  */
 @Getter
 public final class Song extends AudioFile {
+    private final int id;
     private final String album;
-    private final ArrayList<String> tags;
+    private final List<String> tags;
     private final String lyrics;
     private final String genre;
     private final Integer releaseYear;
     private final String artist;
-    private Integer likes;
+    private final Symbol albumSymbol;
+    private final Symbol genreSymbol;
+    private final Symbol artistSymbol;
 
     /**
-     * Instantiates a new Song.
+     * Instantiates a new Song. The album, the tags, the genre and the artist are interned, and
+     * the tags are copied to a read-only list, since songs are shared by concurrent runs.
      *
+     * @param symbols     the symbol table the strings are interned in
+     * @param id          the id of the song, unique within a run and used as its identity
      * @param name        the name
      * @param duration    the duration
      * @param album       the album
@@ -30,17 +40,22 @@ public final class Song extends AudioFile {
      * @param releaseYear the release year
      * @param artist      the artist
      */
-    public Song(final String name, final Integer duration, final String album,
-                final ArrayList<String> tags, final String lyrics, final String genre,
-                final Integer releaseYear, final String artist) {
+    public Song(final SymbolTable symbols, final int id, final String name,
+                final Integer duration, final String album, final ArrayList<String> tags,
+                final String lyrics, final String genre, final Integer releaseYear,
+                final String artist) {
         super(name, duration);
-        this.album = album;
-        this.tags = tags;
+        this.id = id;
+        this.albumSymbol = symbols.intern(album);
+        this.genreSymbol = symbols.intern(genre);
+        this.artistSymbol = symbols.intern(artist);
+        this.album = albumSymbol == null ? null : albumSymbol.getName();
+        this.tags = tags == null ? null
+                                 : Collections.unmodifiableList(symbols.internAll(tags));
         this.lyrics = lyrics;
-        this.genre = genre;
+        this.genre = genreSymbol == null ? null : genreSymbol.getName();
         this.releaseYear = releaseYear;
-        this.artist = artist;
-        this.likes = 0;
+        this.artist = artistSymbol == null ? null : artistSymbol.getName();
     }
 
     @Override
@@ -79,47 +94,17 @@ public final class Song extends AudioFile {
 
     @Override
     public boolean matchesReleaseYear(final String releaseYearFilter) {
-        return filterByYear(this.getReleaseYear(), releaseYearFilter);
+        return this.getReleaseYear() != null
+               && SongColumns.yearFilter(releaseYearFilter).test(this.getReleaseYear());
     }
 
-    private static boolean filterByYear(final int year, final String query) {
-        if (query.startsWith("<")) {
-            return year < Integer.parseInt(query.substring(1));
-        } else if (query.startsWith(">")) {
-            return year > Integer.parseInt(query.substring(1));
-        } else {
-            return year == Integer.parseInt(query);
-        }
-    }
-
-    /**
-     * Like.
-     */
-    public void like() {
-        likes++;
-    }
-
-    /**
-     * Dislike.
-     */
-    public void dislike() {
-        likes--;
+    @Override
+    public boolean equals(final Object obj) {
+        return obj instanceof Song song && id == song.id;
     }
 
     @Override
-    public boolean equals(final Object obj) {
-        Song song = (Song) obj;
-        if (song == null) {
-            return false;
-        }
-        return this.getName().equals(song.getName())
-                && this.getDuration().equals(song.getDuration())
-                && this.getAlbum().equals(song.getAlbum())
-                && this.getTags().equals(song.getTags())
-                && this.getLyrics().equals(song.getLyrics())
-                && this.getGenre().equals(song.getGenre())
-                && this.getReleaseYear().equals(song.getReleaseYear())
-                && this.getArtist().equals(song.getArtist())
-                && this.getLikes().equals(song.getLikes());
+    public int hashCode() {
+        return Integer.hashCode(id);
     }
 }
@@ -0,0 +1,139 @@
+package app.catalog;
+
+import app.audio.Collections.Album;
+import app.audio.Files.Song;
+import app.user.Artist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The albums artists added during one run, indexed by artist, by album and by song.
+ *
+ * Every album is added and removed through here, so the songs of an artist, its albums by name
+ * and whether it has a song with some name are kept up to date instead of being rebuilt from
+ * the albums each time they are asked for.
+ */
+public final class AlbumIndex {
+    /**
+     * What the index knows about one artist.
+     */
+    private static final class Shelf {
+        private final Map<String, Album> albums = new HashMap<>();
+        private final List<Song> songs = new ArrayList<>();
+        private final Map<String, Integer> songNames = new HashMap<>();
+    }
+
+    private final Map<Album, Artist> albums = new LinkedHashMap<>();
+    private final Map<Artist, Shelf> shelves = new IdentityHashMap<>();
+    private final Map<Song, Album> albumOfSong = new IdentityHashMap<>();
+
+    /**
+     * Adds a new album of an artist, after the albums it already has.
+     *
+     * @param artist the artist
+     * @param album  the album
+     */
+    public void add(final Artist artist, final Album album) {
+        artist.getAlbums().add(album);
+        albums.put(album, artist);
+
+        Shelf shelf = shelves.computeIfAbsent(artist, key -> new Shelf());
+        shelf.albums.put(album.getName(), album);
+        shelf.songs.addAll(album.getSongs());
+        for (Song song : album.getSongs()) {
+            shelf.songNames.merge(song.getName(), 1, Integer::sum);
+            albumOfSong.put(song, album);
+        }
+    }
+
+    /**
+     * Removes an album.
+     *
+     * @param album the album
+     */
+    public void remove(final Album album) {
+        Artist artist = albums.remove(album);
+        if (artist == null) {
+            return;
+        }
+        artist.getAlbums().remove(album);
+
+        Shelf shelf = shelves.get(artist);
+        shelf.albums.remove(album.getName());
+        shelf.songs.removeIf(song -> albumOfSong.get(song) == album);
+        for (Song song : album.getSongs()) {
+            shelf.songNames.computeIfPresent(song.getName(),
+                                             (name, count) -> count == 1 ? null : count - 1);
+            albumOfSong.remove(song);
+        }
+    }
+
+    /**
+     * Removes every album of a deleted artist.
+     *
+     * @param artist the artist
+     */
+    public void removeArtist(final Artist artist) {
+        Shelf shelf = shelves.remove(artist);
+        if (shelf == null) {
+            return;
+        }
+
+        for (Album album : shelf.albums.values()) {
+            albums.remove(album);
+            album.getSongs().forEach(albumOfSong::remove);
+        }
+    }
+
+    /**
+     * Gets songs.
+     *
+     * @return the songs of every album, album after album in the order they were added
+     */
+    public List<Song> getSongs() {
+        List<Song> songs = new ArrayList<>(albumOfSong.size());
+        albums.keySet().forEach(album -> songs.addAll(album.getSongs()));
+        return songs;
+    }
+
+    /**
+     * Gets the songs of an artist.
+     *
+     * @param artist the artist
+     * @return a read-only view of the songs of the artist, album after album
+     */
+    public List<Song> getSongs(final Artist artist) {
+        Shelf shelf = shelves.get(artist);
+        return shelf == null ? Collections.emptyList() : Collections.unmodifiableList(shelf.songs);
+    }
+
+    /**
+     * Gets the album of an artist with a name.
+     *
+     * @param artist    the artist
+     * @param albumName the album name
+     * @return the album, or null if the artist has none with that name
+     */
+    public Album getAlbum(final Artist artist, final String albumName) {
+        Shelf shelf = shelves.get(artist);
+        return shelf == null ? null : shelf.albums.get(albumName);
+    }
+
+    /**
+     * Checks whether an artist has a song with a name.
+     *
+     * @param artist   the artist
+     * @param songName the song name
+     * @return true if one of the albums of the artist has a song with that name
+     */
+    public boolean hasSong(final Artist artist, final String songName) {
+        Shelf shelf = shelves.get(artist);
+        return shelf != null && shelf.songNames.containsKey(songName);
+    }
+}
@@ -0,0 +1,305 @@
+package app.catalog;
+
+import app.audio.Collections.Podcast;
+import app.audio.Files.Episode;
+import app.audio.Files.Song;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fileio.input.EpisodeInput;
+import fileio.input.InputDecoder;
+import fileio.input.LibraryChunks;
+import fileio.input.LibraryInput;
+import fileio.input.PodcastInput;
+import fileio.input.SongInput;
+import fileio.input.UserInput;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The immutable library shared by every run of the platform.
+ *
+ * A library file is parsed and turned into domain objects only once per JVM; every run then
+ * reads the same songs, podcasts and indexes and keeps its own mutable state (likes, albums
+ * added by artists, podcasts removed by hosts) on top of them. The genres, artists, albums and
+ * tags of the library are interned in the symbol table of the catalog while it is built.
+ */
+public final class Catalog {
+    private static final Map<String, CompletableFuture<Catalog>> LOADED = new ConcurrentHashMap<>();
+    private static final int CHUNK_SIZE = 1024;
+
+    private final SymbolTable symbols;
+    private final List<Song> songs;
+    private final List<Podcast> podcasts;
+    private final List<UserInput> users;
+    private final Map<String, List<Song>> songsByGenre;
+    private final SongColumns songColumns;
+
+    private Catalog(final SymbolTable symbols, final List<Song> songs,
+                    final SongColumns songColumns, final List<Podcast> podcasts,
+                    final List<UserInput> users) {
+        Map<String, List<Song>> genres = songs.parallelStream()
+                .collect(Collectors.groupingBy(Song::getGenre, LinkedHashMap::new,
+                                               Collectors.toUnmodifiableList()));
+
+        this.symbols = symbols;
+        this.songs = Collections.unmodifiableList(songs);
+        this.podcasts = Collections.unmodifiableList(podcasts);
+        this.users = Collections.unmodifiableList(users);
+        this.songsByGenre = Collections.unmodifiableMap(genres);
+        this.songColumns = songColumns;
+    }
+
+    /**
+     * The songs of a chunk of the library, on their way from JSON to domain objects.
+     */
+    private static final class SongChunk {
+        private final int firstIndex;
+        private final List<SongInput> inputs;
+        private final SymbolTable symbols = new SymbolTable();
+        private List<Song> songs;
+        private SongColumns columns;
+
+        /**
+         * Decodes the songs of a chunk and interns their strings in a table of the chunk, in
+         * the order the songs intern them.
+         */
+        SongChunk(final ObjectMapper objectMapper,
+                  final LibraryChunks.Chunk chunk) throws IOException {
+            this.firstIndex = chunk.getFirstIndex();
+            this.inputs = chunk.decode(objectMapper, InputDecoder::readSong);
+            for (SongInput songInput : inputs) {
+                symbols.intern(songInput.getAlbum());
+                symbols.intern(songInput.getGenre());
+                symbols.intern(songInput.getArtist());
+                if (songInput.getTags() != null) {
+                    songInput.getTags().forEach(symbols::intern);
+                }
+            }
+        }
+
+        /**
+         * Creates the songs of the chunk and their columns. Every string of the chunk is
+         * already in the catalog table, so the table is only read and chunks can be converted
+         * in parallel.
+         */
+        void convert(final SymbolTable catalogSymbols) {
+            songs = new ArrayList<>(inputs.size());
+            for (SongInput songInput : inputs) {
+                songs.add(toSong(catalogSymbols, firstIndex + songs.size(), songInput));
+            }
+            columns = SongColumns.of(songs);
+        }
+    }
+
+    /**
+     * Converts the elements of a chunk of a library array.
+     *
+     * @param <T> the type of the converted elements
+     */
+    @FunctionalInterface
+    private interface ChunkConverter<T> {
+        List<T> convert(LibraryChunks.Chunk chunk) throws IOException;
+    }
+
+    /**
+     * Builds a catalog from an already decoded library.
+     *
+     * @param library the library input
+     * @return the catalog
+     */
+    public static Catalog of(final LibraryInput library) {
+        SymbolTable symbols = new SymbolTable();
+        List<Song> songList = new ArrayList<>(library.getSongs().size());
+        for (SongInput songInput : library.getSongs()) {
+            songList.add(toSong(symbols, songList.size(), songInput));
+        }
+
+        List<Podcast> podcastList = new ArrayList<>(library.getPodcasts().size());
+        for (PodcastInput podcastInput : library.getPodcasts()) {
+            podcastList.add(toPodcast(podcastInput));
+        }
+
+        return new Catalog(symbols, songList, SongColumns.of(songList), podcastList,
+                           new ArrayList<>(library.getUsers()));
+    }
+
+    /**
+     * Gets the catalog of a library file, parsing it only the first time it is requested.
+     *
+     * The first caller parses the library outside of the cache, which only holds the future
+     * catalog, so loading one library never blocks the threads loading another one. Callers
+     * asking for a library being parsed wait for it, and a library that fails to load is not
+     * cached.
+     *
+     * @param libraryFile the library file
+     * @return the shared catalog
+     * @throws IOException in case of exceptions to reading the library
+     */
+    public static Catalog load(final File libraryFile) throws IOException {
+        String path = libraryFile.getCanonicalPath();
+        CompletableFuture<Catalog> created = new CompletableFuture<>();
+        CompletableFuture<Catalog> loading = LOADED.putIfAbsent(path, created);
+        if (loading == null) {
+            loading = created;
+            try {
+                created.complete(parse(new File(path)));
+            } catch (IOException | RuntimeException | Error e) {
+                LOADED.remove(path, created);
+                created.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Parses a library file.
+     *
+     * The arrays of the library are split into chunks, which are decoded and turned into
+     * domain objects on the common fork-join pool, so large libraries load in a time that
+     * scales with the number of cores. Each chunk of songs interns its strings in a table of
+     * its own; the tables are merged in library order, which gives every string the same
+     * symbol on every load, and the songs and their columns are then built chunk by chunk in
+     * parallel, with the ids of their position in the library.
+     */
+    private static Catalog parse(final File libraryFile) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        LibraryChunks library = LibraryChunks.split(objectMapper,
+                                                    Files.readAllBytes(libraryFile.toPath()),
+                                                    CHUNK_SIZE);
+
+        List<SongChunk> songChunks = convert(library.getSongs(), chunk ->
+                List.of(new SongChunk(objectMapper, chunk)));
+        List<Podcast> podcastList = convert(library.getPodcasts(), chunk ->
+                chunk.decode(objectMapper, InputDecoder::readPodcast).stream()
+                     .map(Catalog::toPodcast)
+                     .toList());
+        List<UserInput> userList = convert(library.getUsers(), chunk ->
+                chunk.decode(objectMapper, InputDecoder::readUser));
+
+        SymbolTable symbols = new SymbolTable();
+        songChunks.forEach(chunk -> symbols.merge(chunk.symbols));
+        songChunks.parallelStream().forEach(chunk -> chunk.convert(symbols));
+
+        List<Song> songList = new ArrayList<>(library.getSongs().stream()
+                                                      .mapToInt(LibraryChunks.Chunk::getSize)
+                                                      .sum());
+        List<SongColumns> columns = new ArrayList<>(songChunks.size());
+        for (SongChunk chunk : songChunks) {
+            songList.addAll(chunk.songs);
+            columns.add(chunk.columns);
+        }
+        return new Catalog(symbols, songList, SongColumns.concat(songList, columns), podcastList,
+                           userList);
+    }
+
+    private static <T> List<T> convert(final List<LibraryChunks.Chunk> chunks,
+                                       final ChunkConverter<T> converter) {
+        return chunks.parallelStream()
+                     .map(chunk -> {
+                         try {
+                             return converter.convert(chunk);
+                         } catch (IOException e) {
+                             throw new UncheckedIOException(e);
+                         }
+                     })
+                     .flatMap(List::stream)
+                     .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static Song toSong(final SymbolTable symbols, final int id,
+                               final SongInput songInput) {
+        return new Song(symbols, id, songInput.getName(), songInput.getDuration(),
+                        songInput.getAlbum(), songInput.getTags(), songInput.getLyrics(),
+                        songInput.getGenre(), songInput.getReleaseYear(), songInput.getArtist());
+    }
+
+    private static Podcast toPodcast(final PodcastInput podcastInput) {
+        List<Episode> episodes = new ArrayList<>();
+        for (EpisodeInput episodeInput : podcastInput.getEpisodes()) {
+            episodes.add(new Episode(episodeInput.getName(),
+                                     episodeInput.getDuration(),
+                                     episodeInput.getDescription()));
+        }
+        return new Podcast(podcastInput.getName(), podcastInput.getOwner(),
+                           Collections.unmodifiableList(episodes));
+    }
+
+    /**
+     * Gets symbols.
+     *
+     * @return the symbol table of the library, which must not be changed
+     */
+    public SymbolTable getSymbols() {
+        return symbols;
+    }
+
+    /**
+     * Gets songs.
+     *
+     * @return the songs of the library, in library order
+     */
+    public List<Song> getSongs() {
+        return songs;
+    }
+
+    /**
+     * Gets podcasts.
+     *
+     * @return the podcasts of the library, in library order
+     */
+    public List<Podcast> getPodcasts() {
+        return podcasts;
+    }
+
+    /**
+     * Gets users.
+     *
+     * @return the users registered in the library
+     */
+    public List<UserInput> getUsers() {
+        return users;
+    }
+
+    /**
+     * Gets the library songs of a genre.
+     *
+     * @param genre the genre
+     * @return the songs of that genre, in library order
+     */
+    public List<Song> getSongsByGenre(final String genre) {
+        return songsByGenre.getOrDefault(genre, Collections.emptyList());
+    }
+
+    /**
+     * Gets song columns.
+     *
+     * @return the columns of the library songs, with the library order as ordinals
+     */
+    public SongColumns getSongColumns() {
+        return songColumns;
+    }
+}
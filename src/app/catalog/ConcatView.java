@@ -0,0 +1,40 @@
+package app.catalog;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A read-only view of one list followed by another, without copying either of them.
+ *
+ * Both lists are expected not to change while the view is in use; writers publish a new view
+ * over new lists instead, so a reader holding a view always sees the same snapshot.
+ *
+ * @param <T> the type of the elements
+ */
+public final class ConcatView<T> extends AbstractList<T> implements RandomAccess {
+    private final List<? extends T> first;
+    private final List<? extends T> second;
+
+    /**
+     * Instantiates a new Concat view.
+     *
+     * @param first  the list whose elements come first, which should have random access
+     * @param second the list whose elements come after, which should have random access
+     */
+    public ConcatView(final List<? extends T> first, final List<? extends T> second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public T get(final int index) {
+        int firstSize = first.size();
+        return index < firstSize ? first.get(index) : second.get(index - firstSize);
+    }
+
+    @Override
+    public int size() {
+        return first.size() + second.size();
+    }
+}
@@ -0,0 +1,227 @@
+package app.catalog;
+
+import app.audio.Files.Song;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * The fields of a list of songs that catalog-wide scans read, stored column by column.
+ *
+ * Each song gets an ordinal, its position in the list, and its id, release year, genre and
+ * artist are kept in primitive arrays at that ordinal. Scans over every song then walk a few
+ * dense arrays and compare ints instead of following a pointer to every song and comparing
+ * strings; only the songs that match are read from the list.
+ *
+ * Release years are stored as shorts. A song without a release year, or with one that does not
+ * fit in a short, is flagged instead, and a year filter reads its year from the song, so a
+ * missing year never matches and a large one is never wrapped.
+ */
+public final class SongColumns {
+    private static final int NO_SYMBOL = -1;
+    private final List<Song> songs;
+    private final int[] ids;
+    private final short[] years;
+    private final BitSet irregularYears;
+    private final int[] genres;
+    private final int[] artists;
+
+    private SongColumns(final List<Song> songs) {
+        this.songs = songs;
+        this.ids = new int[songs.size()];
+        this.years = new short[songs.size()];
+        this.irregularYears = new BitSet();
+        this.genres = new int[songs.size()];
+        this.artists = new int[songs.size()];
+
+        for (int ordinal = 0; ordinal < songs.size(); ordinal++) {
+            Song song = songs.get(ordinal);
+            Integer year = song.getReleaseYear();
+            ids[ordinal] = song.getId();
+            if (year == null || year < Short.MIN_VALUE || year > Short.MAX_VALUE) {
+                irregularYears.set(ordinal);
+            } else {
+                years[ordinal] = year.shortValue();
+            }
+            genres[ordinal] = symbolId(song.getGenreSymbol());
+            artists[ordinal] = symbolId(song.getArtistSymbol());
+        }
+    }
+
+    private SongColumns(final List<Song> songs, final List<SongColumns> parts) {
+        this.songs = songs;
+        this.ids = new int[songs.size()];
+        this.years = new short[songs.size()];
+        this.irregularYears = new BitSet();
+        this.genres = new int[songs.size()];
+        this.artists = new int[songs.size()];
+
+        int offset = 0;
+        for (SongColumns part : parts) {
+            int size = part.ids.length;
+            System.arraycopy(part.ids, 0, ids, offset, size);
+            System.arraycopy(part.years, 0, years, offset, size);
+            System.arraycopy(part.genres, 0, genres, offset, size);
+            System.arraycopy(part.artists, 0, artists, offset, size);
+            for (int ordinal = part.irregularYears.nextSetBit(0); ordinal >= 0;
+                 ordinal = part.irregularYears.nextSetBit(ordinal + 1)) {
+                irregularYears.set(offset + ordinal);
+            }
+            offset += size;
+        }
+        if (offset != songs.size()) {
+            throw new IllegalArgumentException("The parts hold " + offset + " songs, not "
+                                               + songs.size());
+        }
+    }
+
+    private static int symbolId(final Symbol symbol) {
+        return symbol == null ? NO_SYMBOL : symbol.getId();
+    }
+
+    /**
+     * Builds the columns of a list of songs.
+     *
+     * @param songs the songs, which should have random access and must not change afterwards
+     * @return the columns
+     */
+    public static SongColumns of(final List<Song> songs) {
+        return new SongColumns(songs);
+    }
+
+    /**
+     * Joins the columns of consecutive runs of songs, such as the chunks of a library built in
+     * parallel, into the columns of the whole list, without reading the songs again.
+     *
+     * @param songs the songs of every part, in order, which must not change afterwards
+     * @param parts the columns of the parts, in order
+     * @return the columns
+     */
+    public static SongColumns concat(final List<Song> songs, final List<SongColumns> parts) {
+        return new SongColumns(songs, parts);
+    }
+
+    /**
+     * Gets size.
+     *
+     * @return the number of songs
+     */
+    public int size() {
+        return songs.size();
+    }
+
+    /**
+     * Gets the song at an ordinal.
+     *
+     * @param ordinal the ordinal
+     * @return the song
+     */
+    public Song getSong(final int ordinal) {
+        return songs.get(ordinal);
+    }
+
+    /**
+     * Gets the id of the song at an ordinal.
+     *
+     * @param ordinal the ordinal
+     * @return the song id
+     */
+    public int getId(final int ordinal) {
+        return ids[ordinal];
+    }
+
+    /**
+     * Adds the songs that match every given filter to a list, in order.
+     *
+     * @param genreIds  the ids of the accepted genres, or null to accept any genre
+     * @param year      the test of the release year, or null to accept any year
+     * @param artistIds the ids of the accepted artists, or null to accept any artist
+     * @param matches   the list the matching songs are added to
+     */
+    public void select(final BitSet genreIds, final IntPredicate year, final BitSet artistIds,
+                       final List<? super Song> matches) {
+        for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+            if (genreIds != null && !contains(genreIds, genres[ordinal])
+                || year != null && !matchesYear(ordinal, year)
+                || artistIds != null && !contains(artistIds, artists[ordinal])) {
+                continue;
+            }
+            matches.add(songs.get(ordinal));
+        }
+    }
+
+    private boolean matchesYear(final int ordinal, final IntPredicate year) {
+        if (!irregularYears.get(ordinal)) {
+            return year.test(years[ordinal]);
+        }
+        Integer releaseYear = songs.get(ordinal).getReleaseYear();
+        return releaseYear != null && year.test(releaseYear);
+    }
+
+    private static boolean contains(final BitSet ids, final int id) {
+        return id != NO_SYMBOL && ids.get(id);
+    }
+
+    /**
+     * Parses a release year filter, such as "2000", "<2000" or ">2000".
+     *
+     * @param query the filter
+     * @return the test of a release year
+     */
+    public static IntPredicate yearFilter(final String query) {
+        if (query.startsWith("<")) {
+            int bound = Integer.parseInt(query.substring(1));
+            return year -> year < bound;
+        } else if (query.startsWith(">")) {
+            int bound = Integer.parseInt(query.substring(1));
+            return year -> year > bound;
+        } else {
+            int bound = Integer.parseInt(query);
+            return year -> year == bound;
+        }
+    }
+
+    /**
+     * Gets the songs with the most likes, over several column stores scanned one after another.
+     *
+     * Songs with the same number of likes keep the order they are scanned in, so the result is
+     * the same as a stable sort by likes, without sorting every song.
+     *
+     * @param columns the column stores, in order
+     * @param likes   the likes of the run
+     * @param count   the number of songs to get
+     * @return at most count songs, most liked first
+     */
+    public static List<Song> mostLiked(final List<SongColumns> columns, final SongLikes likes,
+                                       final int count) {
+        Song[] top = new Song[count];
+        int[] topLikes = new int[count];
+        int size = 0;
+
+        for (SongColumns store : columns) {
+            for (int ordinal = 0; ordinal < store.ids.length; ordinal++) {
+                int songLikes = likes.getById(store.ids[ordinal]);
+                if (size == count && (count == 0 || songLikes <= topLikes[count - 1])) {
+                    continue;
+                }
+
+                int position = size < count ? size++ : count - 1;
+                while (position > 0 && topLikes[position - 1] < songLikes) {
+                    top[position] = top[position - 1];
+                    topLikes[position] = topLikes[position - 1];
+                    position--;
+                }
+                top[position] = store.songs.get(ordinal);
+                topLikes[position] = songLikes;
+            }
+        }
+
+        List<Song> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(top[i]);
+        }
+        return result;
+    }
+}
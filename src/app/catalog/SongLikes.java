@@ -0,0 +1,71 @@
+package app.catalog;
+
+import app.audio.Files.Song;
+
+import java.util.Arrays;
+
+/**
+ * The likes every song received during one run.
+ *
+ * Songs are shared between runs, so their like counters can't live on the songs themselves.
+ * They are kept here instead, indexed by song id.
+ */
+public final class SongLikes {
+    private static final int MIN_CAPACITY = 16;
+    private int[] likes;
+
+    /**
+     * Instantiates new Song likes.
+     *
+     * @param capacity the number of song ids expected
+     */
+    public SongLikes(final int capacity) {
+        likes = new int[Math.max(capacity, MIN_CAPACITY)];
+    }
+
+    private void ensureCapacity(final int id) {
+        if (id >= likes.length) {
+            likes = Arrays.copyOf(likes, Math.max(id + 1, likes.length * 2));
+        }
+    }
+
+    /**
+     * Gets the number of likes of a song.
+     *
+     * @param song the song
+     * @return the likes
+     */
+    public int get(final Song song) {
+        return getById(song.getId());
+    }
+
+    /**
+     * Gets the number of likes of the song with an id.
+     *
+     * @param id the song id
+     * @return the likes
+     */
+    public int getById(final int id) {
+        return id < likes.length ? likes[id] : 0;
+    }
+
+    /**
+     * Like.
+     *
+     * @param song the song
+     */
+    public void like(final Song song) {
+        ensureCapacity(song.getId());
+        likes[song.getId()]++;
+    }
+
+    /**
+     * Dislike.
+     *
+     * @param song the song
+     */
+    public void dislike(final Song song) {
+        ensureCapacity(song.getId());
+        likes[song.getId()]--;
+    }
+}
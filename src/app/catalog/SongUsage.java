@@ -0,0 +1,126 @@
+package app.catalog;
+
+import app.audio.Collections.Playlist;
+import app.audio.Files.Song;
+import app.user.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The users that liked each song and the user playlists that contain it, during one run.
+ *
+ * The index is kept up to date on every like, unlike, playlist change and user deletion, so
+ * removing a song from everywhere it is used only touches the users and playlists that
+ * actually use it.
+ */
+public final class SongUsage {
+    private final Map<Song, Set<User>> likers = new IdentityHashMap<>();
+    private final Map<Song, Set<Playlist>> playlists = new IdentityHashMap<>();
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static <T> void add(final Map<Song, Set<T>> index, final Song song, final T value) {
+        index.computeIfAbsent(song, key -> newIdentitySet()).add(value);
+    }
+
+    private static <T> void remove(final Map<Song, Set<T>> index, final Song song,
+                                   final T value) {
+        Set<T> values = index.get(song);
+        if (values != null && values.remove(value) && values.isEmpty()) {
+            index.remove(song);
+        }
+    }
+
+    private static <T> List<T> snapshot(final Map<Song, Set<T>> index, final Song song) {
+        Set<T> values = index.get(song);
+        return values == null ? Collections.emptyList() : new ArrayList<>(values);
+    }
+
+    /**
+     * Like.
+     *
+     * @param song the song
+     * @param user the user that liked it
+     */
+    public void like(final Song song, final User user) {
+        add(likers, song, user);
+    }
+
+    /**
+     * Unlike.
+     *
+     * @param song the song
+     * @param user the user that doesn't like it anymore
+     */
+    public void unlike(final Song song, final User user) {
+        remove(likers, song, user);
+    }
+
+    /**
+     * Records a song added to a playlist.
+     *
+     * @param song     the song
+     * @param playlist the playlist
+     */
+    public void addToPlaylist(final Song song, final Playlist playlist) {
+        add(playlists, song, playlist);
+    }
+
+    /**
+     * Records a song removed from a playlist.
+     *
+     * @param song     the song
+     * @param playlist the playlist
+     */
+    public void removeFromPlaylist(final Song song, final Playlist playlist) {
+        remove(playlists, song, playlist);
+    }
+
+    /**
+     * Forgets the likes and the playlists of a deleted user.
+     *
+     * @param user the user
+     */
+    public void removeUser(final User user) {
+        user.getLikedSongs().forEach(song -> unlike(song, user));
+        user.getPlaylists().forEach(playlist -> playlist.getSongs()
+                .forEach(song -> removeFromPlaylist(song, playlist)));
+    }
+
+    /**
+     * Forgets a song that was removed from the platform.
+     *
+     * @param song the song
+     */
+    public void removeSong(final Song song) {
+        likers.remove(song);
+        playlists.remove(song);
+    }
+
+    /**
+     * Gets the likers of a song.
+     *
+     * @param song the song
+     * @return a copy of the users that liked the song
+     */
+    public List<User> getLikers(final Song song) {
+        return snapshot(likers, song);
+    }
+
+    /**
+     * Gets the playlists containing a song.
+     *
+     * @param song the song
+     * @return a copy of the user playlists that contain the song
+     */
+    public List<Playlist> getPlaylists(final Song song) {
+        return snapshot(playlists, song);
+    }
+}
@@ -0,0 +1,57 @@
+package app.catalog;
+
+/**
+ * A string interned in the {@link SymbolTable}, such as a genre, an artist, an album, a tag or
+ * a username.
+ *
+ * There is a single symbol for every distinct string, so symbols are compared by identity and
+ * hashed by their dense id, which is much cheaper than hashing and comparing the strings. The
+ * string is only needed again when the symbol is printed or sorted by name.
+ */
+public final class Symbol implements Comparable<Symbol> {
+    private final int id;
+    private final String name;
+
+    Symbol(final int id, final String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the dense id of the symbol, assigned in the order symbols were interned
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets name.
+     *
+     * @return the interned string
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int compareTo(final Symbol other) {
+        return this == other ? 0 : name.compareTo(other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,152 @@
+package app.catalog;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The symbols of every string used as a key by the statistics: genres, artists, albums, tags
+ * and usernames.
+ *
+ * Each distinct string is stored once and gets a dense id. A catalog owns the table of its
+ * library, filled while it is built and only read afterwards, so runs can share it. Every run
+ * owns a table on top of it for its usernames and the content added during the run, whose ids
+ * follow the ones of the catalog, so nothing a run interns outlives it. A table is not meant to
+ * be changed from several threads.
+ *
+ * Every symbol is also indexed by its case-folded name, so the symbols equal to a string,
+ * ignoring case, are found without going over the whole table.
+ */
+public final class SymbolTable {
+    private final SymbolTable parent;
+    private final int firstId;
+    private final Map<String, Symbol> symbols = new HashMap<>();
+    private final Map<String, BitSet> folded = new HashMap<>();
+
+    /**
+     * Instantiates a new empty Symbol table.
+     */
+    public SymbolTable() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new Symbol table on top of another one, which must not change anymore.
+     *
+     * @param parent the table whose symbols are shared, or null
+     */
+    public SymbolTable(final SymbolTable parent) {
+        this.parent = parent;
+        this.firstId = parent == null ? 0 : parent.size();
+    }
+
+    /**
+     * Interns a string.
+     *
+     * @param name the string
+     * @return the symbol of the string, or null if the string is null
+     */
+    public Symbol intern(final String name) {
+        if (name == null) {
+            return null;
+        }
+
+        Symbol symbol = find(name);
+        if (symbol != null) {
+            return symbol;
+        }
+        symbol = new Symbol(size(), name);
+        symbols.put(name, symbol);
+        folded.computeIfAbsent(fold(name), key -> new BitSet()).set(symbol.getId());
+        return symbol;
+    }
+
+    /**
+     * Interns every string of a list.
+     *
+     * @param names the strings
+     * @return a new list of the interned strings, or null if the list is null
+     */
+    public ArrayList<String> internAll(final List<String> names) {
+        if (names == null) {
+            return null;
+        }
+
+        ArrayList<String> interned = new ArrayList<>(names.size());
+        for (String name : names) {
+            Symbol symbol = intern(name);
+            interned.add(symbol == null ? null : symbol.getName());
+        }
+        return interned;
+    }
+
+    /**
+     * Interns every string of another table, in the order they were interned there.
+     *
+     * Tables filled independently, such as one per chunk of a library, can then be merged in
+     * a fixed order, and every string gets the id it would have had if they had all been
+     * interned here one after another.
+     *
+     * @param other the table, without a parent
+     */
+    public void merge(final SymbolTable other) {
+        List<Symbol> others = new ArrayList<>(other.symbols.values());
+        others.sort(Comparator.comparingInt(Symbol::getId));
+        for (Symbol symbol : others) {
+            intern(symbol.getName());
+        }
+    }
+
+    /**
+     * Gets the symbol of a string without interning it.
+     *
+     * @param name the string
+     * @return the symbol of the string, or null if it was never interned
+     */
+    public Symbol find(final String name) {
+        if (name == null) {
+            return null;
+        }
+
+        Symbol symbol = parent == null ? null : parent.find(name);
+        return symbol != null ? symbol : symbols.get(name);
+    }
+
+    /**
+     * Gets the ids of the symbols equal to a string, ignoring case.
+     *
+     * @param name the string
+     * @return a new set of the ids of the matching symbols
+     */
+    public BitSet matchingIgnoreCase(final String name) {
+        BitSet ids = parent == null ? new BitSet() : parent.matchingIgnoreCase(name);
+        BitSet own = folded.get(fold(name));
+        if (own != null) {
+            ids.or(own);
+        }
+        return ids;
+    }
+
+    /**
+     * Folds the case of a string, so that two strings are equal ignoring case exactly when
+     * their folded forms are equal.
+     */
+    private static String fold(final String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        name.codePoints().forEach(codePoint -> folded.appendCodePoint(
+                Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    /**
+     * Gets size.
+     *
+     * @return the number of symbols of the table, including the ones it shares
+     */
+    public int size() {
+        return firstId + symbols.size();
+    }
+}
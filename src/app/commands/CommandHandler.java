@@ -0,0 +1,23 @@
+package app.commands;
+
+import app.user.User;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fileio.input.CommandInput;
+
+/**
+ * Runs one type of command.
+ *
+ * The pipeline has already resolved the user and written the header of the output, so a
+ * handler only performs the command and adds its own fields to the output.
+ */
+@FunctionalInterface
+public interface CommandHandler {
+    /**
+     * Handles a command.
+     *
+     * @param commandInput the command input
+     * @param user         the user issuing the command, or null if the command doesn't need one
+     * @param objectNode   the output of the command, with its header already written
+     */
+    void handle(CommandInput commandInput, User user, ObjectNode objectNode);
+}
@@ -0,0 +1,22 @@
+package app.commands;
+
+import fileio.input.CommandType;
+
+/**
+ * Receives the time spent by the pipeline on every command.
+ */
+@FunctionalInterface
+public interface CommandMetrics {
+    /**
+     * Metrics that ignore every command.
+     */
+    CommandMetrics NONE = (type, elapsedNanos) -> { };
+
+    /**
+     * Records a command that has been run.
+     *
+     * @param type         the type of the command
+     * @param elapsedNanos the time spent running it, header and user resolution included
+     */
+    void record(CommandType type, long elapsedNanos);
+}
@@ -0,0 +1,222 @@
+package app.commands;
+
+import app.Admin;
+import app.CommandRunner;
+import app.PlatformContext;
+import app.user.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import fileio.input.CommandInput;
+import fileio.input.CommandType;
+
+/**
+ * Dispatches commands to their handlers.
+ *
+ * Handlers are kept in an array indexed by the command type, so finding one costs the same no
+ * matter how many commands are registered. The steps shared by every command (resolving the
+ * user and writing the command, user and timestamp header) are done here once, before the
+ * handler runs.
+ *
+ * Users are simulated lazily: commands registered as local only catch up the user issuing
+ * them, while every other command first fires the track ends of the whole platform. The
+ * account a command is issued on behalf of has its next track end rescheduled afterwards.
+ */
+public final class CommandPipeline {
+    /**
+     * What a command needs before its handler runs and how its header looks.
+     */
+    public enum Scope {
+        /**
+         * Issued by a normal user, who must exist. The header holds the command, the user
+         * and the timestamp.
+         */
+        USER,
+        /**
+         * Issued on behalf of an account the handler looks up itself. Same header as USER.
+         */
+        ACCOUNT,
+        /**
+         * Like ACCOUNT, but the user comes first in the header.
+         */
+        PAGE,
+        /**
+         * Not tied to any user. The header holds only the command and the timestamp.
+         */
+        GLOBAL
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Admin admin;
+    private final Scope[] scopes = new Scope[CommandType.values().length];
+    private final CommandHandler[] handlers = new CommandHandler[CommandType.values().length];
+    private final boolean[] local = new boolean[CommandType.values().length];
+    private CommandMetrics metrics = CommandMetrics.NONE;
+
+    /**
+     * Instantiates a new Command pipeline with the handlers of every known command.
+     *
+     * @param objectMapper  the object mapper used to create the outputs
+     * @param context       the context of the run
+     * @param commandRunner the command runner of the run
+     */
+    public CommandPipeline(final ObjectMapper objectMapper, final PlatformContext context,
+                           final CommandRunner commandRunner) {
+        this.objectMapper = objectMapper;
+        this.admin = context.getAdmin();
+        registerDefaults(commandRunner);
+    }
+
+    private void registerDefaults(final CommandRunner commandRunner) {
+        registerLocal(CommandType.SEARCH, commandRunner::search);
+        registerLocal(CommandType.SELECT, commandRunner::select);
+        register(CommandType.LOAD, Scope.USER, commandRunner::load);
+        registerLocal(CommandType.PLAY_PAUSE, commandRunner::playPause);
+        registerLocal(CommandType.REPEAT, commandRunner::repeat);
+        registerLocal(CommandType.SHUFFLE, commandRunner::shuffle);
+        registerLocal(CommandType.FORWARD, commandRunner::forward);
+        registerLocal(CommandType.BACKWARD, commandRunner::backward);
+        registerLocal(CommandType.LIKE, commandRunner::like);
+        register(CommandType.NEXT, Scope.USER, commandRunner::next);
+        registerLocal(CommandType.PREV, commandRunner::prev);
+        registerLocal(CommandType.CREATE_PLAYLIST, commandRunner::createPlaylist);
+        register(CommandType.ADD_REMOVE_IN_PLAYLIST, Scope.USER,
+                 commandRunner::addRemoveInPlaylist);
+        registerLocal(CommandType.SWITCH_VISIBILITY, commandRunner::switchVisibility);
+        registerLocal(CommandType.SHOW_PLAYLISTS, commandRunner::showPlaylists);
+        registerLocal(CommandType.FOLLOW, commandRunner::follow);
+        registerLocal(CommandType.STATUS, commandRunner::status);
+        registerLocal(CommandType.SHOW_PREFERRED_SONGS, commandRunner::showLikedSongs);
+        registerLocal(CommandType.GET_PREFERRED_GENRE, commandRunner::getPreferredGenre);
+        register(CommandType.GET_TOP5_SONGS, Scope.GLOBAL, commandRunner::getTop5Songs);
+        register(CommandType.GET_TOP5_PLAYLISTS, Scope.GLOBAL, commandRunner::getTop5Playlists);
+        register(CommandType.SWITCH_CONNECTION_STATUS, Scope.ACCOUNT,
+                 commandRunner::switchConnectionStatus);
+        register(CommandType.ADD_USER, Scope.ACCOUNT, commandRunner::addUser);
+        register(CommandType.DELETE_USER, Scope.ACCOUNT, commandRunner::deleteUser);
+        register(CommandType.ADD_PODCAST, Scope.ACCOUNT, commandRunner::addPodcast);
+        register(CommandType.REMOVE_PODCAST, Scope.ACCOUNT, commandRunner::removePodcast);
+        register(CommandType.ADD_ANNOUNCEMENT, Scope.ACCOUNT, commandRunner::addAnnouncement);
+        register(CommandType.REMOVE_ANNOUNCEMENT, Scope.ACCOUNT,
+                 commandRunner::removeAnnouncement);
+        register(CommandType.ADD_ALBUM, Scope.ACCOUNT, commandRunner::addAlbum);
+        register(CommandType.REMOVE_ALBUM, Scope.ACCOUNT, commandRunner::removeAlbum);
+        register(CommandType.ADD_EVENT, Scope.ACCOUNT, commandRunner::addEvent);
+        register(CommandType.REMOVE_EVENT, Scope.ACCOUNT, commandRunner::removeEvent);
+        register(CommandType.ADD_MERCH, Scope.ACCOUNT, commandRunner::addMerch);
+        register(CommandType.CHANGE_PAGE, Scope.ACCOUNT, commandRunner::changePage);
+        register(CommandType.PRINT_CURRENT_PAGE, Scope.PAGE, commandRunner::printCurrentPage);
+        register(CommandType.GET_TOP5_ALBUMS, Scope.GLOBAL, commandRunner::getTop5AlbumList);
+        register(CommandType.GET_TOP5_ARTISTS, Scope.GLOBAL, commandRunner::getTop5ArtistList);
+        register(CommandType.GET_ALL_USERS, Scope.GLOBAL, commandRunner::getAllUsers);
+        register(CommandType.GET_ONLINE_USERS, Scope.GLOBAL, commandRunner::getOnlineUsers);
+        register(CommandType.SHOW_ALBUMS, Scope.ACCOUNT, commandRunner::showAlbums);
+        register(CommandType.SHOW_PODCASTS, Scope.ACCOUNT, commandRunner::showPodcasts);
+        register(CommandType.WRAPPED, Scope.ACCOUNT, commandRunner::wrapped);
+        register(CommandType.BUY_PREMIUM, Scope.USER, commandRunner::buyPremium);
+        register(CommandType.CANCEL_PREMIUM, Scope.USER, commandRunner::cancelPremium);
+        register(CommandType.AD_BREAK, Scope.USER, commandRunner::adBreak);
+        register(CommandType.BUY_MERCH, Scope.USER, commandRunner::buyMerch);
+        registerLocal(CommandType.SEE_MERCH, commandRunner::seeMerch);
+        register(CommandType.UPDATE_RECOMMENDATIONS, Scope.USER,
+                 commandRunner::updateRecommendations);
+        register(CommandType.SUBSCRIBE, Scope.USER, commandRunner::subscribe);
+        registerLocal(CommandType.GET_NOTIFICATIONS, commandRunner::getNotifications);
+        register(CommandType.PREVIOUS_PAGE, Scope.USER, commandRunner::previousPage);
+        register(CommandType.NEXT_PAGE, Scope.USER, commandRunner::nextPage);
+        register(CommandType.LOAD_RECOMMENDATIONS, Scope.USER,
+                 commandRunner::loadRecommendations);
+    }
+
+    /**
+     * Registers the handler of a command, replacing the previous one.
+     *
+     * @param type    the command type
+     * @param scope   the scope of the command
+     * @param handler the handler
+     */
+    public void register(final CommandType type, final Scope scope,
+                         final CommandHandler handler) {
+        scopes[type.ordinal()] = scope;
+        handlers[type.ordinal()] = handler;
+        local[type.ordinal()] = false;
+    }
+
+    /**
+     * Registers the handler of a user command that reads and changes nothing but the state of
+     * the user issuing it, so only that user has to be caught up before it runs.
+     *
+     * @param type    the command type
+     * @param handler the handler
+     */
+    public void registerLocal(final CommandType type, final CommandHandler handler) {
+        register(type, Scope.USER, handler);
+        local[type.ordinal()] = true;
+    }
+
+    /**
+     * Sets the metrics that receive the time spent on every command.
+     *
+     * @param metrics the metrics
+     */
+    public void setMetrics(final CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Checks if a command can be run by this pipeline.
+     *
+     * @param commandInput the command input
+     * @return true if the command has a registered handler
+     */
+    public boolean canRun(final CommandInput commandInput) {
+        CommandType type = commandInput.getCommandType();
+        return type != null && handlers[type.ordinal()] != null;
+    }
+
+    /**
+     * Runs a command.
+     *
+     * @param commandInput the command input, which must be runnable by this pipeline
+     * @return the output of the command
+     */
+    public ObjectNode run(final CommandInput commandInput) {
+        long start = System.nanoTime();
+        CommandType type = commandInput.getCommandType();
+        Scope scope = scopes[type.ordinal()];
+
+        ObjectNode objectNode = objectMapper.createObjectNode();
+        if (scope == Scope.PAGE) {
+            objectNode.put("user", commandInput.getUsername());
+        }
+        objectNode.put("command", type.getCommandName());
+        if (scope == Scope.USER || scope == Scope.ACCOUNT) {
+            objectNode.put("user", commandInput.getUsername());
+        }
+        objectNode.put("timestamp", commandInput.getTimestamp());
+
+        User account = null;
+        if (scope == Scope.USER || scope == Scope.ACCOUNT) {
+            account = admin.getUser(commandInput.getUsername());
+        }
+        User user = scope == Scope.USER ? account : null;
+
+        if (scope == Scope.USER && user == null) {
+            objectNode.put("message", "The username %s doesn't exist."
+                    .formatted(commandInput.getUsername()));
+        } else {
+            if (!local[type.ordinal()]) {
+                admin.catchUpAll();
+            }
+            if (account != null) {
+                admin.catchUp(account);
+            }
+            handlers[type.ordinal()].handle(commandInput, user, objectNode);
+            if (account != null) {
+                admin.reschedule(account);
+            }
+        }
+
+        metrics.record(type, System.nanoTime() - start);
+        return objectNode;
+    }
+}
@@ -1,20 +1,23 @@
 package app.pages;
 
+import app.PlatformContext;
 import app.audio.Collections.Playlist;
 import app.audio.Files.Song;
+import app.catalog.SongLikes;
 import app.user.User;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.List;
 
 /**
  * The type Home page.
  */
 public final class HomePage implements Page {
-    private List<Song> likedSongs;
-    private List<Playlist> followedPlaylists;
+    private final PlatformContext context;
+    private Collection<Song> likedSongs;
+    private Collection<Playlist> followedPlaylists;
     @Getter
     @Setter
     private Song songRecommendations;
@@ -29,21 +32,23 @@ public final class HomePage implements Page {
      * @param user the user
      */
     public HomePage(final User user) {
+        context = user.getContext();
         likedSongs = user.getLikedSongs();
         followedPlaylists = user.getFollowedPlaylists();
     }
 
     @Override
     public String printCurrentPage() {
+        SongLikes songLikes = context.getAdmin().getSongLikes();
         return "Liked songs:\n\t%s\n\nFollowed playlists:\n\t%s\n\nSong recommendations:\n\t[%s]\n\nPlaylists recommendations:\n\t[%s]"
                .formatted(likedSongs.stream()
-                                    .sorted(Comparator.comparing(Song::getLikes)
+                                    .sorted(Comparator.comparingInt(songLikes::get)
                                     .reversed()).limit(limit).map(Song::getName)
                           .toList(),
                           followedPlaylists.stream().sorted((o1, o2) ->
-                                  o2.getSongs().stream().map(Song::getLikes)
+                                  o2.getSongs().stream().map(songLikes::get)
                                     .reduce(Integer::sum).orElse(0)
-                                  - o1.getSongs().stream().map(Song::getLikes).reduce(Integer::sum)
+                                  - o1.getSongs().stream().map(songLikes::get).reduce(Integer::sum)
                                   .orElse(0)).limit(limit).map(Playlist::getName)
                           .toList(),
                           songRecommendations == null ? "" : songRecommendations.getName(),
@@ -4,7 +4,7 @@ import app.audio.Collections.Playlist;
 import app.audio.Files.Song;
 import app.user.User;
 
-import java.util.List;
+import java.util.Collection;
 
 /**
  * The type Liked content page.
@@ -13,11 +13,11 @@ public final class LikedContentPage implements Page {
     /**
      * The Liked songs.
      */
-    private List<Song> likedSongs;
+    private Collection<Song> likedSongs;
     /**
      * The Followed playlists.
      */
-    private List<Playlist> followedPlaylists;
+    private Collection<Playlist> followedPlaylists;
 
     /**
      * Instantiates a new Liked content page.
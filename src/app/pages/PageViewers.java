@@ -0,0 +1,52 @@
+package app.pages;
+
+import app.user.User;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The users of a run that are currently on each page.
+ *
+ * Users report every page change here, so whether anyone is on the page of an artist or a host
+ * can be answered without looking at every user.
+ */
+public final class PageViewers {
+    private final Map<Page, Set<User>> viewers = new IdentityHashMap<>();
+
+    /**
+     * Moves a user from one page to another.
+     *
+     * @param user     the user
+     * @param oldPage  the page the user was on, or null if the user was on none
+     * @param newPage  the page the user is on now, or null if the user left the platform
+     */
+    public void move(final User user, final Page oldPage, final Page newPage) {
+        if (oldPage == newPage) {
+            return;
+        }
+
+        if (oldPage != null) {
+            Set<User> oldViewers = viewers.get(oldPage);
+            if (oldViewers != null && oldViewers.remove(user) && oldViewers.isEmpty()) {
+                viewers.remove(oldPage);
+            }
+        }
+        if (newPage != null) {
+            viewers.computeIfAbsent(newPage, key -> Collections.newSetFromMap(
+                    new IdentityHashMap<>())).add(user);
+        }
+    }
+
+    /**
+     * Checks whether a page is being viewed.
+     *
+     * @param page the page
+     * @return true if at least one user is on the page
+     */
+    public boolean isViewed(final Page page) {
+        return viewers.containsKey(page);
+    }
+}
@@ -0,0 +1,65 @@
+package app.player;
+
+import app.audio.Collections.AudioCollection;
+import app.audio.Files.AudioFile;
+import app.audio.Files.Episode;
+import app.audio.Files.Song;
+import app.user.User;
+import app.utils.Enums;
+import lombok.Getter;
+
+/**
+ * A track a user listened to, as reported by the player of the user.
+ *
+ * Events are immutable and carry everything the statistics and the revenue ledgers need, so
+ * they can be applied after the player has already moved on.
+ */
+@Getter
+public final class ListenEvent {
+    private final User user;
+    private final AudioFile audioFile;
+    private final AudioCollection audioCollection;
+    private final Enums.PlayerSourceType sourceType;
+    private final boolean premium;
+    private final int timestamp;
+
+    /**
+     * Instantiates a new Listen event.
+     *
+     * @param user            the user
+     * @param audioFile       the track that was listened to
+     * @param audioCollection the collection the track was played from, or null
+     * @param sourceType      the type of the source of the player
+     * @param premium         whether the user was premium at the time
+     * @param timestamp       the timestamp the track started at
+     */
+    public ListenEvent(final User user, final AudioFile audioFile,
+                       final AudioCollection audioCollection,
+                       final Enums.PlayerSourceType sourceType, final boolean premium,
+                       final int timestamp) {
+        this.user = user;
+        this.audioFile = audioFile;
+        this.audioCollection = audioCollection;
+        this.sourceType = sourceType;
+        this.premium = premium;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Gets song.
+     *
+     * @return the song that was listened to, or null if the track is an episode
+     */
+    public Song getSong() {
+        return audioFile instanceof Song song ? song : null;
+    }
+
+    /**
+     * Gets episode.
+     *
+     * @return the episode that was listened to, or null if the track is a song
+     */
+    public Episode getEpisode() {
+        return audioFile instanceof Episode episode ? episode : null;
+    }
+}
@@ -0,0 +1,52 @@
+package app.player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects the listen events reported by the players of a run and hands them to every sink.
+ *
+ * Events are buffered until the pipeline is flushed, so a burst of tracks ended by a long time
+ * jump is applied in one pass per sink. The pipeline must be flushed before anything reads
+ * what the sinks update, such as an ad payout.
+ */
+public final class ListenPipeline {
+    private final List<ListenSink> sinks;
+    private final List<ListenEvent> pending = new ArrayList<>();
+
+    /**
+     * Instantiates a new Listen pipeline.
+     *
+     * @param sinks the sinks, in the order they are applied
+     */
+    public ListenPipeline(final List<ListenSink> sinks) {
+        this.sinks = List.copyOf(sinks);
+    }
+
+    /**
+     * Buffers an event.
+     *
+     * @param event the event, ignored if null
+     */
+    public void emit(final ListenEvent event) {
+        if (event != null) {
+            pending.add(event);
+        }
+    }
+
+    /**
+     * Applies the buffered events to every sink.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<ListenEvent> batch = Collections.unmodifiableList(new ArrayList<>(pending));
+        pending.clear();
+        for (ListenSink sink : sinks) {
+            sink.apply(batch);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package app.player;
+
+import java.util.List;
+
+/**
+ * A consumer of listen events, such as the statistics of users, artists and hosts or the
+ * revenue ledgers.
+ */
+public interface ListenSink {
+    /**
+     * Applies a batch of events, in the order they happened.
+     *
+     * @param events the events
+     */
+    void apply(List<ListenEvent> events);
+}
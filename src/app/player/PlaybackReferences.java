@@ -0,0 +1,106 @@
+package app.player;
+
+import app.audio.Collections.AudioCollection;
+import app.audio.Files.AudioFile;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Counts the players of a run that currently hold each audio file and audio collection.
+ *
+ * Every player reports the file and the collection it holds whenever its source changes, so
+ * whether some content is being played can be answered without going over every player.
+ */
+public final class PlaybackReferences {
+    private final Map<AudioFile, Integer> files = new IdentityHashMap<>();
+    private final Map<AudioCollection, Integer> collections = new IdentityHashMap<>();
+
+    /**
+     * Counts one more player holding an audio file.
+     *
+     * @param audioFile the audio file
+     */
+    void acquire(final AudioFile audioFile) {
+        files.merge(audioFile, 1, Integer::sum);
+    }
+
+    /**
+     * Counts one less player holding an audio file.
+     *
+     * @param audioFile the audio file
+     */
+    void release(final AudioFile audioFile) {
+        files.computeIfPresent(audioFile, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Counts one more player holding an audio collection.
+     *
+     * @param audioCollection the audio collection
+     */
+    void acquire(final AudioCollection audioCollection) {
+        collections.merge(audioCollection, 1, Integer::sum);
+    }
+
+    /**
+     * Counts one less player holding an audio collection.
+     *
+     * @param audioCollection the audio collection
+     */
+    void release(final AudioCollection audioCollection) {
+        collections.computeIfPresent(audioCollection,
+                                     (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Gets the number of players holding an audio file.
+     *
+     * @param audioFile the audio file
+     * @return the number of players
+     */
+    public int count(final AudioFile audioFile) {
+        return files.getOrDefault(audioFile, 0);
+    }
+
+    /**
+     * Gets the number of players holding an audio collection.
+     *
+     * @param audioCollection the audio collection
+     * @return the number of players
+     */
+    public int count(final AudioCollection audioCollection) {
+        return collections.getOrDefault(audioCollection, 0);
+    }
+
+    /**
+     * Checks whether some player holds an audio file.
+     *
+     * @param audioFile the audio file
+     * @return true if at least one player holds it
+     */
+    public boolean isPlaying(final AudioFile audioFile) {
+        return files.containsKey(audioFile);
+    }
+
+    /**
+     * Checks whether some player holds an audio collection.
+     *
+     * @param audioCollection the audio collection
+     * @return true if at least one player holds it
+     */
+    public boolean isPlaying(final AudioCollection audioCollection) {
+        return collections.containsKey(audioCollection);
+    }
+
+    /**
+     * Gets collections.
+     *
+     * @return a read-only view of the audio collections held by at least one player
+     */
+    public Set<AudioCollection> getCollections() {
+        return Collections.unmodifiableSet(collections.keySet());
+    }
+}
@@ -1,6 +1,6 @@
 package app.player;
 
-import app.Admin;
+import app.PlatformContext;
 import app.audio.Collections.AudioCollection;
 import app.audio.Files.AudioFile;
 import app.audio.LibraryEntry;
@@ -16,6 +16,7 @@ import java.util.List;
  * The type Player.
  */
 public final class Player {
+    private final PlatformContext context;
     @Getter
     @Setter
     private Enums.RepeatMode repeatMode;
@@ -48,15 +49,21 @@ public final class Player {
     @Getter
     @Setter
     private PlayerSource beforeAdSource = null;
+    private AudioFile heldAudioFile = null;
+    private AudioCollection heldAudioCollection = null;
 
     /**
      * Instantiates a new Player.
+     *
+     * @param context the context of the run
      */
-    public Player() {
+    public Player(final PlatformContext context) {
+        this.context = context;
         this.repeatMode = Enums.RepeatMode.NO_REPEAT;
         this.paused = true;
     }
     public Player(final Player player) {
+        this.context = player.context;
         this.repeatMode = player.repeatMode;
         this.shuffle = player.shuffle;
         this.paused = player.paused;
@@ -77,6 +84,52 @@ public final class Player {
         paused = true;
         source = null;
         shuffle = false;
+        updateReferences();
+    }
+
+    /**
+     * Reports the audio file and audio collection the player holds now to the playback
+     * references of the run, if they changed since the last report.
+     */
+    private void updateReferences() {
+        PlaybackReferences references = context.getPlaybackReferences();
+
+        AudioFile audioFile = getCurrentAudioFile();
+        if (audioFile != heldAudioFile) {
+            if (heldAudioFile != null) {
+                references.release(heldAudioFile);
+            }
+            if (audioFile != null) {
+                references.acquire(audioFile);
+            }
+            heldAudioFile = audioFile;
+        }
+
+        AudioCollection audioCollection = getCurrentAudioCollection();
+        if (audioCollection != heldAudioCollection) {
+            if (heldAudioCollection != null) {
+                references.release(heldAudioCollection);
+            }
+            if (audioCollection != null) {
+                references.acquire(audioCollection);
+            }
+            heldAudioCollection = audioCollection;
+        }
+    }
+
+    /**
+     * Stops counting the player as holding anything, once its user was deleted.
+     */
+    public void releaseReferences() {
+        PlaybackReferences references = context.getPlaybackReferences();
+        if (heldAudioFile != null) {
+            references.release(heldAudioFile);
+            heldAudioFile = null;
+        }
+        if (heldAudioCollection != null) {
+            references.release(heldAudioCollection);
+            heldAudioCollection = null;
+        }
     }
 
     private void bookmarkPodcast() {
@@ -140,6 +193,7 @@ public final class Player {
         this.repeatMode = Enums.RepeatMode.NO_REPEAT;
         this.shuffle = false;
         this.paused = true;
+        updateReferences();
     }
 
     /**
@@ -201,6 +255,8 @@ public final class Player {
      * @param time the time
      */
     public void simulatePlayer(final int time, final User user) {
+        ListenPipeline listens = context.getAdmin().getListens();
+        int start = user.getSimulatedUntil() - time;
         int elapsedTime = time;
         if (!paused) {
             while (elapsedTime >= source.getDuration()) {
@@ -209,8 +265,9 @@ public final class Player {
                 if (paused) {
                     break;
                 }
-                Admin.getInstance().updateWrappedIndividually(user);
+                listens.emit(listenEvent(user, start + time - elapsedTime));
             }
+            listens.flush();
 
             if (!paused) {
                 source.skip(-elapsedTime);
@@ -218,20 +275,37 @@ public final class Player {
         }
     }
 
+    /**
+     * Reports the track the player is on, unless it is an ad.
+     *
+     * @param user      the user of the player
+     * @param timestamp the timestamp the track started at
+     * @return the listen event, or null if there is nothing to report
+     */
+    public ListenEvent listenEvent(final User user, final int timestamp) {
+        if (source == null || comeBack) {
+            return null;
+        }
+        return new ListenEvent(user, source.getAudioFile(), source.getAudioCollection(),
+                               source.getType(), user.isPremium(), timestamp);
+    }
+
     /**
      * Next.
      */
     public void next(final User user) {
         if (shouldInsertAd) {
             beforeAdSource = new PlayerSource(source);
-            source.setAudioFile(Admin.getAd());
+            source.setAudioFile(context.getAd());
             source.setAudioCollection(null);
-            source.setRemainedDuration(Admin.getAd().getDuration());
+            source.setRemainedDuration(context.getAd().getDuration());
             comeBack = true;
             shouldInsertAd = false;
-            Admin.getInstance().giveMoneyFree((double) user.getAdPrice(), user);
+            context.getAdmin().getListens().flush();
+            context.getAdmin().giveMoneyFree((double) user.getAdPrice(), user);
             user.getAdAdministration().clearLists();
             user.setAdPrice(0);
+            updateReferences();
             return;
         }
         if (comeBack) {
@@ -248,6 +322,7 @@ public final class Player {
         if (source.getDuration() == 0 && paused) {
             stop();
         }
+        updateReferences();
     }
 
     /**
@@ -256,11 +331,13 @@ public final class Player {
     public void prev() {
         source.setPrevAudioFile(shuffle);
         paused = false;
+        updateReferences();
     }
 
     private void skip(final int duration) {
         source.skip(duration);
         paused = false;
+        updateReferences();
     }
 
     /**
@@ -2,23 +2,21 @@ package app.searchBar;
 
 
 import app.Admin;
+import app.PlatformContext;
 import app.audio.LibraryEntry;
 import app.user.ContentCreator;
 import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static app.searchBar.FilterUtils.filterByAlbum;
-import static app.searchBar.FilterUtils.filterByArtist;
 import static app.searchBar.FilterUtils.filterByDescription;
 import static app.searchBar.FilterUtils.filterByFollowers;
-import static app.searchBar.FilterUtils.filterByGenre;
 import static app.searchBar.FilterUtils.filterByLyrics;
 import static app.searchBar.FilterUtils.filterByName;
 import static app.searchBar.FilterUtils.filterByOwner;
-import static app.searchBar.FilterUtils.filterByPlaylistVisibility;
-import static app.searchBar.FilterUtils.filterByReleaseYear;
 import static app.searchBar.FilterUtils.filterByTags;
 
 
@@ -26,7 +24,7 @@ import static app.searchBar.FilterUtils.filterByTags;
  * The type Search bar.
  */
 public final class SearchBar {
-    private static Admin admin;
+    private final PlatformContext context;
     private List<LibraryEntry> results;
     private final String user;
     private static final Integer MAX_RESULTS = 5;
@@ -39,19 +37,14 @@ public final class SearchBar {
     @Getter
     private ContentCreator lastContentCreatorSelected;
 
-    /**
-     * Update admin.
-     */
-    public static void updateAdmin() {
-        admin = Admin.getInstance();
-    }
-
     /**
      * Instantiates a new Search bar.
      *
-     * @param user the user
+     * @param context the context of the run
+     * @param user    the user
      */
-    public SearchBar(final String user) {
+    public SearchBar(final PlatformContext context, final String user) {
+        this.context = context;
         this.results = new ArrayList<>();
         this.resultsContentCreator = new ArrayList<>();
         this.user = user;
@@ -73,11 +66,14 @@ public final class SearchBar {
      * @return the list
      */
     public List<LibraryEntry> search(final Filters filters, final String type) {
+        Admin admin = context.getAdmin();
         List<LibraryEntry> entries;
 
         switch (type) {
             case "song":
-                entries = new ArrayList<>(admin.getSongs());
+                entries = Collections.unmodifiableList(
+                        admin.filterSongs(filters.getGenre(), filters.getReleaseYear(),
+                                          filters.getArtist()));
 
                 if (filters.getName() != null) {
                     entries = filterByName(entries, filters.getName());
@@ -95,23 +91,9 @@ public final class SearchBar {
                     entries = filterByLyrics(entries, filters.getLyrics());
                 }
 
-                if (filters.getGenre() != null) {
-                    entries = filterByGenre(entries, filters.getGenre());
-                }
-
-                if (filters.getReleaseYear() != null) {
-                    entries = filterByReleaseYear(entries, filters.getReleaseYear());
-                }
-
-                if (filters.getArtist() != null) {
-                    entries = filterByArtist(entries, filters.getArtist());
-                }
-
                 break;
             case "playlist":
-                entries = new ArrayList<>(admin.getPlaylists());
-
-                entries = filterByPlaylistVisibility(entries, user);
+                entries = Collections.unmodifiableList(admin.getVisiblePlaylists(user));
 
                 if (filters.getName() != null) {
                     entries = filterByName(entries, filters.getName());
@@ -127,7 +109,7 @@ public final class SearchBar {
 
                 break;
             case "podcast":
-                entries = new ArrayList<>(admin.getPodcasts());
+                entries = Collections.unmodifiableList(admin.getPodcasts());
 
                 if (filters.getName() != null) {
                     entries = filterByName(entries, filters.getName());
@@ -158,11 +140,8 @@ public final class SearchBar {
                 entries = new ArrayList<>();
         }
 
-        while (entries.size() > MAX_RESULTS) {
-            entries.remove(entries.size() - 1);
-        }
-
-        this.results = entries;
+        this.results = new ArrayList<>(entries.subList(0, Math.min(entries.size(),
+                                                                   MAX_RESULTS)));
         this.resultsContentCreator.clear();
         this.lastSearchType = type;
         return this.results;
@@ -176,6 +155,7 @@ public final class SearchBar {
      * @return the list
      */
     public List<ContentCreator> searchContentCreator(final Filters filters, final String type) {
+        Admin admin = context.getAdmin();
         List<ContentCreator> entries;
 
         switch (type) {
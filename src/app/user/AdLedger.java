@@ -0,0 +1,27 @@
+package app.user;
+
+import app.audio.Files.Song;
+import app.player.ListenEvent;
+import app.player.ListenSink;
+
+import java.util.List;
+
+/**
+ * Records the songs and artists free users listened to since their last ad, which the price of
+ * the next ad is split between.
+ */
+public final class AdLedger implements ListenSink {
+    @Override
+    public void apply(final List<ListenEvent> events) {
+        for (ListenEvent event : events) {
+            Song song = event.getSong();
+            if (song == null || event.isPremium()) {
+                continue;
+            }
+
+            User.AdAdministration ads = event.getUser().getAdAdministration();
+            ads.addSong(song.getName());
+            ads.addArtist(song.getArtistSymbol());
+        }
+    }
+}
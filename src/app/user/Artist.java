@@ -4,8 +4,10 @@ import java.util.*;
 
 import app.audio.Collections.Album;
 import app.audio.Collections.AlbumOutput;
-import app.audio.Files.Song;
+import app.catalog.Symbol;
+import app.catalog.SymbolTable;
 import app.pages.ArtistPage;
+import app.utils.RankedCounter;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -17,8 +19,7 @@ public final class Artist extends ContentCreator implements Subject {
     private ArrayList<Merchandise> merch;
     private ArrayList<Event> events;
     @Getter
-    @Setter
-    private HashMap<String, Integer> topAlbums = new HashMap<>();
+    private final RankedCounter<Symbol> topAlbums = new RankedCounter<>();
     @Getter
     @Setter
     private HashMap<String, Double> profitForEachSong = new HashMap<>();
@@ -26,11 +27,9 @@ public final class Artist extends ContentCreator implements Subject {
     @Setter
     private Double totalRevenue = 0.0;
     @Getter
-    @Setter
-    private HashMap<String, Integer> topSongs = new HashMap<>();
+    private final RankedCounter<String> topSongs;
     @Getter
-    @Setter
-    private HashMap<String, Integer> topFans = new HashMap<>();
+    private final RankedCounter<Symbol> topFans;
     @Getter
     @Setter
     private Integer listeners = 0;
@@ -61,14 +60,33 @@ public final class Artist extends ContentCreator implements Subject {
 
 
     /**
-     * Instantiates a new Artist.
+     * Instantiates a new Artist, whose statistics are counted exactly.
      *
+     * @param symbols  the symbol table of the run
      * @param username the username
      * @param age      the age
      * @param city     the city
      */
-    public Artist(final String username, final int age, final String city) {
-        super(username, age, city);
+    public Artist(final SymbolTable symbols, final String username, final int age,
+                  final String city) {
+        this(symbols, username, age, city, 0);
+    }
+
+    /**
+     * Instantiates a new Artist.
+     *
+     * @param symbols            the symbol table of the run
+     * @param username           the username
+     * @param age                the age
+     * @param city               the city
+     * @param statisticsCapacity the most songs and fans whose listens are counted, with
+     *                           approximate counts, or 0 to count all of them exactly
+     */
+    public Artist(final SymbolTable symbols, final String username, final int age,
+                  final String city, final int statisticsCapacity) {
+        super(symbols, username, age, city);
+        topSongs = new RankedCounter<>(statisticsCapacity);
+        topFans = new RankedCounter<>(statisticsCapacity);
         albums = new ArrayList<>();
         merch = new ArrayList<>();
         events = new ArrayList<>();
@@ -167,18 +185,6 @@ public final class Artist extends ContentCreator implements Subject {
         return null;
     }
 
-    /**
-     * Gets all songs.
-     *
-     * @return the all songs
-     */
-    public List<Song> getAllSongs() {
-        List<Song> songs = new ArrayList<>();
-        albums.forEach(album -> songs.addAll(album.getSongs()));
-
-        return songs;
-    }
-
     /**
      * Show albums array list.
      *
@@ -202,38 +208,6 @@ public final class Artist extends ContentCreator implements Subject {
         return "artist";
     }
 
-    /**
-     * Sorts the entries of the input HashMap by values in descending order and then by keys in
-     * ascending order.
-     *
-     * @param oldMap The input HashMap to be sorted.
-     * @return A new HashMap containing the sorted entries.
-     */
-    public HashMap<String, Integer> keepHashesSorted(final HashMap<String, Integer> oldMap) {
-        // sort all 5 hashes that a user have by value, and after by key
-        HashMap<String, Integer> hashMap = new HashMap<>(oldMap);
-
-        List<Map.Entry<String, Integer>> entryList = new ArrayList<>(hashMap.entrySet());
-
-        Collections.sort(entryList, new Comparator<Map.Entry<String, Integer>>() {
-            public int compare(final Map.Entry<String, Integer> o1,
-                               final Map.Entry<String, Integer> o2) {
-                if (o1.getValue().equals(o2.getValue())) {
-                    return o1.getKey().compareTo(o2.getKey());
-                }
-                return o2.getValue().compareTo(o1.getValue());
-            }
-        });
-
-        Map<String, Integer> sortedHashMap = new LinkedHashMap<>();
-
-        for (Map.Entry<String, Integer> entry : entryList) {
-            sortedHashMap.put(entry.getKey(), entry.getValue());
-        }
-
-        return (HashMap<String, Integer>) sortedHashMap;
-    }
-
     /**
      * Retrieves the top songs along with their corresponding play counts, limited to the maximum
      * of 5 entries.
@@ -242,15 +216,7 @@ public final class Artist extends ContentCreator implements Subject {
      * in descending order.
      */
     public HashMap<String, Integer> getTopSongsM() {
-        HashMap<String, Integer> result = new HashMap<>();
-        this.topSongs = keepHashesSorted(this.topSongs);
-        Integer max = Math.min(this.topSongs.size(), MAX);
-        for (int i = 0; i < max; i++) {
-            result.put(this.topSongs.keySet().toArray()[i].toString(),
-                    (Integer) this.topSongs.values().toArray()[i]);
-        }
-        result = keepHashesSorted(result);
-        return result;
+        return this.topSongs.topCounts(MAX);
     }
 
     /**
@@ -260,14 +226,7 @@ public final class Artist extends ContentCreator implements Subject {
      * in descending order.
      */
     public ArrayList<String> getTopFansM() {
-        ArrayList<String> result = new ArrayList<>();
-        this.topFans = keepHashesSorted(this.topFans);
-        Integer max = Math.min(this.topFans.size(), MAX);
-
-        for (int i = 0; i < max; i++) {
-            result.add(this.topFans.keySet().toArray()[i].toString());
-        }
-        return result;
+        return this.topFans.topNames(MAX);
     }
 
     /**
@@ -277,14 +236,6 @@ public final class Artist extends ContentCreator implements Subject {
      * engagement, sorted by engagement in descending order.
      */
     public HashMap<String, Integer> getTopAlbumsM() {
-        HashMap<String, Integer> result = new HashMap<>();
-        this.topAlbums = keepHashesSorted(this.topAlbums);
-        Integer max = Math.min(this.topAlbums.size(), MAX);
-        for (int i = 0; i < max; i++) {
-            result.put(this.topAlbums.keySet().toArray()[i].toString(),
-                    (Integer) this.topAlbums.values().toArray()[i]);
-        }
-        result = keepHashesSorted(result);
-        return result;
+        return this.topAlbums.topCounts(MAX);
     }
 }
@@ -0,0 +1,42 @@
+package app.user;
+
+import app.Admin;
+import app.audio.Files.Song;
+import app.player.ListenEvent;
+import app.player.ListenSink;
+
+import java.util.List;
+
+/**
+ * Counts the listens, songs, albums and fans of the artist of every song listened to.
+ */
+public final class ArtistListenSink implements ListenSink {
+    private final Admin admin;
+
+    /**
+     * Instantiates a new Artist listen sink.
+     *
+     * @param admin the admin the artists are looked up in
+     */
+    public ArtistListenSink(final Admin admin) {
+        this.admin = admin;
+    }
+
+    @Override
+    public void apply(final List<ListenEvent> events) {
+        for (ListenEvent event : events) {
+            Song song = event.getSong();
+            if (song == null) {
+                continue;
+            }
+
+            Artist artist = admin.getArtist(song.getArtist());
+            artist.setHasStatistics(true);
+            artist.getTopSongs().increment(song.getName());
+            artist.getTopAlbums().increment(song.getAlbumSymbol());
+            artist.getTopFans().increment(event.getUser().getUsernameSymbol());
+            artist.setListeners(artist.getListeners() + 1);
+            artist.setListened(true);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package app.user;
 
+import app.catalog.SymbolTable;
 import app.pages.Page;
 
 /**
@@ -12,12 +13,14 @@ public abstract class ContentCreator extends UserAbstract {
     /**
      * Instantiates a new Content creator.
      *
+     * @param symbols  the symbol table of the run
      * @param username the username
      * @param age      the age
      * @param city     the city
      */
-    public ContentCreator(final String username, final int age, final String city) {
-        super(username, age, city);
+    public ContentCreator(final SymbolTable symbols, final String username, final int age,
+                          final String city) {
+        super(symbols, username, age, city);
     }
 
     /**
@@ -1,12 +1,13 @@
 package app.user;
 
 import app.audio.Collections.Podcast;
+import app.catalog.Symbol;
+import app.catalog.SymbolTable;
 import app.pages.HostPage;
+import app.utils.CounterMap;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 
 /**
  * The type Host.
@@ -15,21 +16,21 @@ public final class Host extends ContentCreator {
     private ArrayList<Podcast> podcasts;
     private ArrayList<Announcement> announcements;
     @Getter
-    @Setter
-    private HashMap<String, Integer> topEpisodes = new HashMap<>();
+    private final CounterMap<String> topEpisodes = new CounterMap<>();
     @Getter
-    @Setter
-    private HashMap<String, Integer> listeners = new HashMap<>();
+    private final CounterMap<Symbol> listeners = new CounterMap<>();
 
     /**
      * Instantiates a new Host.
      *
+     * @param symbols  the symbol table of the run
      * @param username the username
      * @param age      the age
      * @param city     the city
      */
-    public Host(final String username, final int age, final String city) {
-        super(username, age, city);
+    public Host(final SymbolTable symbols, final String username, final int age,
+                final String city) {
+        super(symbols, username, age, city);
         podcasts = new ArrayList<>();
         announcements = new ArrayList<>();
 
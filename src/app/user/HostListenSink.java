@@ -0,0 +1,40 @@
+package app.user;
+
+import app.Admin;
+import app.player.ListenEvent;
+import app.player.ListenSink;
+import app.utils.Enums;
+
+import java.util.List;
+
+/**
+ * Counts the episodes and listeners of the host of every podcast listened to.
+ */
+public final class HostListenSink implements ListenSink {
+    private final Admin admin;
+
+    /**
+     * Instantiates a new Host listen sink.
+     *
+     * @param admin the admin the hosts are looked up in
+     */
+    public HostListenSink(final Admin admin) {
+        this.admin = admin;
+    }
+
+    @Override
+    public void apply(final List<ListenEvent> events) {
+        for (ListenEvent event : events) {
+            if (event.getSourceType() != Enums.PlayerSourceType.PODCAST) {
+                continue;
+            }
+
+            Host host = admin.getHost(event.getAudioCollection().getOwner());
+            if (host == null) {
+                continue;
+            }
+            host.getTopEpisodes().increment(event.getAudioFile().getName());
+            host.getListeners().increment(event.getUser().getUsernameSymbol());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package app.user;
+
+import app.audio.Collections.Playlist;
+import app.utils.Enums;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The playlists of every user of a run, split into a public and a private partition.
+ *
+ * Each playlist is keyed by the order its owner was added in and its position among the
+ * playlists of the owner, so both partitions list playlists in the order they are found by going
+ * over the users and then over the playlists of each user.
+ */
+public final class PlaylistRegistry {
+    private static final int OWNER_SHIFT = 32;
+    private final Map<User, Long> owners = new IdentityHashMap<>();
+    private final Map<Playlist, Long> keys = new IdentityHashMap<>();
+    private final TreeMap<Long, Playlist> publicPlaylists = new TreeMap<>();
+    private final TreeMap<Long, Playlist> privatePlaylists = new TreeMap<>();
+    private long nextOwner = 0;
+
+    /**
+     * Adds a new user, whose playlists come after the ones of the users already added.
+     *
+     * @param user the user
+     */
+    public void addUser(final User user) {
+        owners.put(user, nextOwner++ << OWNER_SHIFT);
+    }
+
+    /**
+     * Forgets a deleted user and all of its playlists.
+     *
+     * @param user the user
+     */
+    public void removeUser(final User user) {
+        owners.remove(user);
+        for (Playlist playlist : user.getPlaylists()) {
+            Long key = keys.remove(playlist);
+            if (key != null) {
+                publicPlaylists.remove(key);
+                privatePlaylists.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Adds the playlist a user just created.
+     *
+     * @param user     the user, whose last playlist is the new one
+     * @param playlist the playlist
+     */
+    public void add(final User user, final Playlist playlist) {
+        Long owner = owners.get(user);
+        if (owner == null) {
+            return;
+        }
+
+        long key = owner + user.getPlaylists().size() - 1;
+        keys.put(playlist, key);
+        partition(playlist).put(key, playlist);
+    }
+
+    /**
+     * Moves a playlist to the partition of its visibility, after it was switched.
+     *
+     * @param playlist the playlist
+     */
+    public void updateVisibility(final Playlist playlist) {
+        Long key = keys.get(playlist);
+        if (key == null) {
+            return;
+        }
+
+        publicPlaylists.remove(key);
+        privatePlaylists.remove(key);
+        partition(playlist).put(key, playlist);
+    }
+
+    private TreeMap<Long, Playlist> partition(final Playlist playlist) {
+        return playlist.getVisibility() == Enums.Visibility.PUBLIC ? publicPlaylists
+                                                                   : privatePlaylists;
+    }
+
+    /**
+     * Gets playlists.
+     *
+     * @return every playlist, public and private, user after user
+     */
+    public List<Playlist> getPlaylists() {
+        List<Playlist> playlists = new ArrayList<>(keys.size());
+        Iterator<Map.Entry<Long, Playlist>> publicEntries = publicPlaylists.entrySet().iterator();
+        Iterator<Map.Entry<Long, Playlist>> privateEntries =
+                privatePlaylists.entrySet().iterator();
+        Map.Entry<Long, Playlist> publicEntry = next(publicEntries);
+        Map.Entry<Long, Playlist> privateEntry = next(privateEntries);
+
+        while (publicEntry != null || privateEntry != null) {
+            if (privateEntry == null
+                || publicEntry != null && publicEntry.getKey() < privateEntry.getKey()) {
+                playlists.add(publicEntry.getValue());
+                publicEntry = next(publicEntries);
+            } else {
+                playlists.add(privateEntry.getValue());
+                privateEntry = next(privateEntries);
+            }
+        }
+        return playlists;
+    }
+
+    private static Map.Entry<Long, Playlist> next(
+            final Iterator<Map.Entry<Long, Playlist>> entries) {
+        return entries.hasNext() ? entries.next() : null;
+    }
+
+    /**
+     * Gets the playlists a user can see, which are the public ones and its own private ones.
+     *
+     * Only the public partition and the playlists of the user are visited.
+     *
+     * @param user the user, or null to get only the public playlists
+     * @return the visible playlists, user after user
+     */
+    public List<Playlist> getVisiblePlaylists(final User user) {
+        Long owner = user == null ? null : owners.get(user);
+        if (owner == null) {
+            return new ArrayList<>(publicPlaylists.values());
+        }
+
+        Collection<Playlist> before = publicPlaylists.headMap(owner).values();
+        Collection<Playlist> after = publicPlaylists.tailMap(owner + (1L << OWNER_SHIFT))
+                                                    .values();
+        List<Playlist> playlists = new ArrayList<>(before.size() + user.getPlaylists().size()
+                                                   + after.size());
+        playlists.addAll(before);
+        playlists.addAll(user.getPlaylists());
+        playlists.addAll(after);
+        return playlists;
+    }
+}
@@ -0,0 +1,27 @@
+package app.user;
+
+import app.audio.Files.Song;
+import app.player.ListenEvent;
+import app.player.ListenSink;
+
+import java.util.List;
+
+/**
+ * Records the songs and artists premium users listened to, which their subscription is split
+ * between.
+ */
+public final class PremiumLedger implements ListenSink {
+    @Override
+    public void apply(final List<ListenEvent> events) {
+        for (ListenEvent event : events) {
+            Song song = event.getSong();
+            if (song == null || !event.isPremium()) {
+                continue;
+            }
+
+            User user = event.getUser();
+            user.getPremiumHistorySong().increment(song.getName());
+            user.getPremiumHistoryArtist().increment(song.getArtistSymbol());
+        }
+    }
+}
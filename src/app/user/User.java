@@ -1,12 +1,14 @@
 package app.user;
 
-import app.Admin;
+import app.PlatformContext;
 import app.audio.Collections.AudioCollection;
 import app.audio.Collections.Playlist;
 import app.audio.Collections.PlaylistOutput;
 import app.audio.Files.AudioFile;
 import app.audio.Files.Song;
 import app.audio.LibraryEntry;
+import app.catalog.SongUsage;
+import app.catalog.Symbol;
 import app.pages.HomePage;
 import app.pages.LikedContentPage;
 import app.pages.NavigationHistory;
@@ -15,7 +17,9 @@ import app.player.Player;
 import app.player.PlayerStats;
 import app.searchBar.Filters;
 import app.searchBar.SearchBar;
+import app.utils.CounterMap;
 import app.utils.Enums;
+import app.utils.RankedCounter;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -25,12 +29,14 @@ import java.util.*;
  * The type User.
  */
 public final class User extends UserAbstract implements Observer {
+    @Getter
+    private final PlatformContext context;
     @Getter
     private ArrayList<Playlist> playlists;
     @Getter
-    private ArrayList<Song> likedSongs;
+    private LinkedHashSet<Song> likedSongs;
     @Getter
-    private ArrayList<Playlist> followedPlaylists;
+    private LinkedHashSet<Playlist> followedPlaylists;
     @Getter
     private final Player player;
     @Getter
@@ -39,7 +45,6 @@ public final class User extends UserAbstract implements Observer {
     private final SearchBar searchBar;
     private boolean lastSearched;
     @Getter
-    @Setter
     private Page currentPage;
     @Getter
     @Setter
@@ -48,20 +53,15 @@ public final class User extends UserAbstract implements Observer {
     @Setter
     private LikedContentPage likedContentPage;
     @Getter
-    @Setter
-    private HashMap<String, Integer> topArtists;
+    private final RankedCounter<Symbol> topArtists = new RankedCounter<>();
     @Getter
-    @Setter
-    private HashMap<String, Integer> topGenres;
-    @Setter
+    private final RankedCounter<Symbol> topGenres = new RankedCounter<>();
     @Getter
-    private HashMap<String, Integer> topSongs;
+    private final RankedCounter<String> topSongs = new RankedCounter<>();
     @Getter
-    @Setter
-    private HashMap<String, Integer> topAlbums;
+    private final RankedCounter<Symbol> topAlbums = new RankedCounter<>();
     @Getter
-    @Setter
-    private HashMap<String, Integer> topEpisodes;
+    private final RankedCounter<String> topEpisodes = new RankedCounter<>();
     @Getter
     @Setter
     private boolean hasStatistics = false;
@@ -69,11 +69,9 @@ public final class User extends UserAbstract implements Observer {
     @Setter
     private boolean premium = false;
     @Getter
-    @Setter
-    private HashMap<String, Integer> premiumHistorySong = new HashMap<>();
+    private final CounterMap<String> premiumHistorySong = new CounterMap<>();
     @Getter
-    @Setter
-    private HashMap<String, Integer> premiumHistoryArtist = new HashMap<>();
+    private final CounterMap<Symbol> premiumHistoryArtist = new CounterMap<>();
     @Getter
     @Setter
     private static final Double subscriptionPrice = 1000000.0;
@@ -112,14 +110,14 @@ public final class User extends UserAbstract implements Observer {
     @Getter
     @Setter
     private static final Integer MAX_ADS = 5;
+    @Getter
+    private int simulatedUntil = 0;
 
     public class AdAdministration {
         @Getter
-        @Setter
-        private HashMap<String, Integer> allSongs = new HashMap<>();
+        private final CounterMap<String> allSongs = new CounterMap<>();
         @Getter
-        @Setter
-        private HashMap<String, Integer> allArtists = new HashMap<>();
+        private final CounterMap<Symbol> allArtists = new CounterMap<>();
 
         /**
          * Adds a song to the collection, incrementing its count if it already exists, or adding
@@ -128,25 +126,17 @@ public final class User extends UserAbstract implements Observer {
          * @param songName The name of the song to be added.
          */
         public void addSong(final String songName) {
-            if (allSongs.containsKey(songName)) {
-                allSongs.put(songName, allSongs.get(songName) + 1);
-            } else {
-                allSongs.put(songName, 1);
-            }
+            allSongs.increment(songName);
         }
 
         /**
          * Adds an artist to the collection, incrementing its count if it already exists, or
          * adding it with a count of 1 if it's a new artist.
          *
-         * @param artistName The name of the artist to be added.
+         * @param artistName The interned name of the artist to be added.
          */
-        public void addArtist(final String artistName) {
-            if (allArtists.containsKey(artistName)) {
-                allArtists.put(artistName, allArtists.get(artistName) + 1);
-            } else {
-                allArtists.put(artistName, 1);
-            }
+        public void addArtist(final Symbol artistName) {
+            allArtists.increment(artistName);
         }
 
         /**
@@ -162,28 +152,26 @@ public final class User extends UserAbstract implements Observer {
     /**
      * Instantiates a new User.
      *
+     * @param context  the context of the run
      * @param username the username
      * @param age      the age
      * @param city     the city
      */
-    public User(final String username, final int age, final String city) {
-        super(username, age, city);
+    public User(final PlatformContext context, final String username, final int age,
+                final String city) {
+        super(context.getSymbols(), username, age, city);
+        this.context = context;
         playlists = new ArrayList<>();
-        likedSongs = new ArrayList<>();
-        followedPlaylists = new ArrayList<>();
-        player = new Player();
-        searchBar = new SearchBar(username);
+        likedSongs = new LinkedHashSet<>();
+        followedPlaylists = new LinkedHashSet<>();
+        player = new Player(context);
+        searchBar = new SearchBar(context, username);
         lastSearched = false;
         status = true;
 
         homePage = new HomePage(this);
-        currentPage = homePage;
+        setCurrentPage(homePage);
         likedContentPage = new LikedContentPage(this);
-        topArtists = new HashMap<>();
-        topGenres = new HashMap<>();
-        topSongs = new HashMap<>();
-        topAlbums = new HashMap<>();
-        topEpisodes = new HashMap<>();
     }
 
     /**
@@ -210,6 +198,16 @@ public final class User extends UserAbstract implements Observer {
         return "user";
     }
 
+    /**
+     * Sets current page.
+     *
+     * @param page the page, or null once the user is deleted
+     */
+    public void setCurrentPage(final Page page) {
+        context.getPageViewers().move(this, currentPage, page);
+        currentPage = page;
+    }
+
     /**
      * Search array list.
      *
@@ -266,7 +264,7 @@ public final class User extends UserAbstract implements Observer {
                 return "The selected ID is too high.";
             }
 
-            currentPage = selected.getPage();
+            setCurrentPage(selected.getPage());
             return "Successfully selected %s's page.".formatted(selected.getUsername());
         } else {
             LibraryEntry selected = searchBar.select(itemNumber);
@@ -306,7 +304,7 @@ public final class User extends UserAbstract implements Observer {
         searchBar.clearSelection();
 
         player.pause();
-        Admin.getInstance().updateWrappedIndividually(this);
+        context.getAdmin().updateWrappedIndividually(this);
         return "Playback loaded successfully.";
     }
 
@@ -468,16 +466,18 @@ public final class User extends UserAbstract implements Observer {
         }
 
         Song song = (Song) player.getCurrentAudioFile();
+        SongUsage songUsage = context.getAdmin().getSongUsage();
 
-        if (likedSongs.contains(song)) {
-            likedSongs.remove(song);
-            song.dislike();
+        if (likedSongs.remove(song)) {
+            songUsage.unlike(song, this);
+            context.getAdmin().getSongLikes().dislike(song);
 
             return "Unlike registered successfully.";
         }
 
         likedSongs.add(song);
-        song.like();
+        songUsage.like(song, this);
+        context.getAdmin().getSongLikes().like(song);
         return "Like registered successfully.";
     }
 
@@ -541,7 +541,10 @@ public final class User extends UserAbstract implements Observer {
             return "A playlist with the same name already exists.";
         }
 
-        playlists.add(new Playlist(name, getUsername(), timestamp));
+        Playlist playlist = new Playlist(context.getAdmin().nextPlaylistId(), name,
+                                         getUsername(), timestamp);
+        playlists.add(playlist);
+        context.getAdmin().getPlaylistRegistry().add(this, playlist);
 
         return "Playlist created successfully.";
     }
@@ -570,13 +573,17 @@ public final class User extends UserAbstract implements Observer {
         }
 
         Playlist playlist = playlists.get(id - 1);
+        Song song = (Song) player.getCurrentAudioFile();
+        SongUsage songUsage = context.getAdmin().getSongUsage();
 
-        if (playlist.containsSong((Song) player.getCurrentAudioFile())) {
-            playlist.removeSong((Song) player.getCurrentAudioFile());
+        if (playlist.containsSong(song)) {
+            songUsage.removeFromPlaylist(song, playlist);
+            playlist.removeSong(song);
             return "Successfully removed from playlist.";
         }
 
-        playlist.addSong((Song) player.getCurrentAudioFile());
+        playlist.addSong(song);
+        songUsage.addToPlaylist(song, playlist);
         return "Successfully added to playlist.";
     }
 
@@ -597,6 +604,7 @@ public final class User extends UserAbstract implements Observer {
 
         Playlist playlist = playlists.get(playlistId - 1);
         playlist.switchVisibility();
+        context.getAdmin().getPlaylistRegistry().updateVisibility(playlist);
 
         if (playlist.getVisibility() == Enums.Visibility.PUBLIC) {
             return "Visibility status updated successfully to public.";
@@ -646,8 +654,7 @@ public final class User extends UserAbstract implements Observer {
             return "You cannot follow or unfollow your own playlist.";
         }
 
-        if (followedPlaylists.contains(playlist)) {
-            followedPlaylists.remove(playlist);
+        if (followedPlaylists.remove(playlist)) {
             playlist.decreaseFollowers();
 
             return "Playlist unfollowed successfully.";
@@ -732,36 +739,38 @@ public final class User extends UserAbstract implements Observer {
     }
 
     /**
-     * Sorts the provided hash map by values in descending order and then by keys in ascending
-     * order.
+     * Simulates the time passed since this user was last simulated.
      *
-     * @param oldMap The hash map to be sorted.
-     * @return A new hash map sorted by values in descending order and then by keys in ascending
-     * order.
+     * @param timestamp the timestamp to simulate up to
      */
-    public HashMap<String, Integer> keepHashesSorted(final HashMap<String, Integer> oldMap) {
-        // sort all 5 hashes that a user have by value, and after by key
-        HashMap<String, Integer> hashMap = new HashMap<>(oldMap);
-
-        List<Map.Entry<String, Integer>> entryList = new ArrayList<>(hashMap.entrySet());
-
-        Collections.sort(entryList, new Comparator<Map.Entry<String, Integer>>() {
-            public int compare(final Map.Entry<String, Integer> o1,
-                               final Map.Entry<String, Integer> o2) {
-                if (o1.getValue().equals(o2.getValue())) {
-                    return o1.getKey().compareTo(o2.getKey());
-                }
-                return o2.getValue().compareTo(o1.getValue());
-            }
-        });
+    public void catchUp(final int timestamp) {
+        if (timestamp <= simulatedUntil) {
+            return;
+        }
 
-        Map<String, Integer> sortedHashMap = new LinkedHashMap<>();
+        int elapsed = timestamp - simulatedUntil;
+        simulatedUntil = timestamp;
+        simulateTime(elapsed, this);
+    }
 
-        for (Map.Entry<String, Integer> entry : entryList) {
-            sortedHashMap.put(entry.getKey(), entry.getValue());
-        }
+    /**
+     * Checks if the player of this user is advancing through its source.
+     *
+     * @return true if the user is online and the player is playing something
+     */
+    public boolean isPlaying() {
+        return status && player.getSource() != null && !player.getPaused();
+    }
 
-        return (HashMap<String, Integer>) sortedHashMap;
+    /**
+     * Checks if catching up to a timestamp would end the current track, which has side effects
+     * on the statistics and revenues of other users.
+     *
+     * @param timestamp the timestamp
+     * @return true if the current track ends by the timestamp
+     */
+    public boolean hasPlaybackEventBy(final int timestamp) {
+        return isPlaying() && simulatedUntil + player.getSource().getDuration() <= timestamp;
     }
 
     /**
@@ -772,14 +781,7 @@ public final class User extends UserAbstract implements Observer {
      * counts in descending order.
      */
     public HashMap<String, Integer> getTopSongsM() {
-        HashMap<String, Integer> result = new HashMap<>();
-        Integer max = Math.min(this.topSongs.size(), MAX_ADS);
-        for (int i = 0; i < max; i++) {
-            result.put(this.topSongs.keySet().toArray()[i].toString(),
-                    (Integer) this.topSongs.values().toArray()[i]);
-        }
-        result = keepHashesSorted(result);
-        return result;
+        return this.topSongs.topCounts(MAX_ADS);
     }
 
     /**
@@ -790,14 +792,7 @@ public final class User extends UserAbstract implements Observer {
      * counts in descending order.
      */
     public HashMap<String, Integer> getTopArtistsM() {
-        HashMap<String, Integer> result = new HashMap<>();
-        Integer max = Math.min(this.topArtists.size(), MAX_ADS);
-        for (int i = 0; i < max; i++) {
-            result.put(this.topArtists.keySet().toArray()[i].toString(),
-                    (Integer) this.topArtists.values().toArray()[i]);
-        }
-        result = keepHashesSorted(result);
-        return result;
+        return this.topArtists.topCounts(MAX_ADS);
     }
 
     /**
@@ -808,14 +803,7 @@ public final class User extends UserAbstract implements Observer {
      * counts in descending order.
      */
     public HashMap<String, Integer> getTopGenresM() {
-        HashMap<String, Integer> result = new HashMap<>();
-        Integer max = Math.min(this.topGenres.size(), MAX_ADS);
-        for (int i = 0; i < max; i++) {
-            result.put(this.topGenres.keySet().toArray()[i].toString(),
-                    (Integer) this.topGenres.values().toArray()[i]);
-        }
-        result = keepHashesSorted(result);
-        return result;
+        return this.topGenres.topCounts(MAX_ADS);
     }
 
     /**
@@ -826,14 +814,7 @@ public final class User extends UserAbstract implements Observer {
      * counts in descending order.
      */
     public HashMap<String, Integer> getTopAlbumsM() {
-        HashMap<String, Integer> result = new HashMap<>();
-        Integer max = Math.min(this.topAlbums.size(), MAX_ADS);
-        for (int i = 0; i < max; i++) {
-            result.put(this.topAlbums.keySet().toArray()[i].toString(),
-                    (Integer) this.topAlbums.values().toArray()[i]);
-        }
-        result = keepHashesSorted(result);
-        return result;
+        return this.topAlbums.topCounts(MAX_ADS);
     }
 
     /**
@@ -844,30 +825,17 @@ public final class User extends UserAbstract implements Observer {
      * counts in descending order.
      */
     public HashMap<String, Integer> getTopEpisodesM() {
-        HashMap<String, Integer> result = new HashMap<>();
-        Integer max = Math.min(this.topEpisodes.size(), MAX_ADS);
-        for (int i = 0; i < max; i++) {
-            result.put(this.topEpisodes.keySet().toArray()[i].toString(),
-                    (Integer) this.topEpisodes.values().toArray()[i]);
-        }
-        result = keepHashesSorted(result);
-        return result;
+        return this.topEpisodes.topCounts(MAX_ADS);
     }
 
     /**
      * Retrieves a list of songs based on the specified genre.
      *
      * @param genre The genre to filter songs by.
-     * @return An ArrayList of Song objects matching the specified genre.
+     * @return A read-only list of Song objects matching the specified genre.
      */
-    public ArrayList<Song> getSongsByGenre(final String genre) {
-        ArrayList<Song> result = new ArrayList<>();
-        for (Song song : Admin.getInstance().getSongs()) {
-            if (song.getGenre().equals(genre)) {
-                result.add(song);
-            }
-        }
-        return result;
+    public List<Song> getSongsByGenre(final String genre) {
+        return context.getAdmin().getSongsByGenre(genre);
     }
 
     /**
@@ -887,7 +855,7 @@ public final class User extends UserAbstract implements Observer {
         if (seed < 30) {
             return null;
         }
-        ArrayList<Song> songs = getSongsByGenre(song.getGenre());
+        List<Song> songs = getSongsByGenre(song.getGenre());
         // choose a song from songs using seed
         Random random = new Random(seed);
         Integer index = random.nextInt(songs.size());
@@ -904,15 +872,12 @@ public final class User extends UserAbstract implements Observer {
      */
     public Playlist updatePlaylists() {
         // Create a new playlist for recommendations
-        Playlist recommendationsPlaylist = new Playlist(
+        Playlist recommendationsPlaylist = new Playlist(context.getAdmin().nextPlaylistId(),
                 String.format("%s's recommendations", this.getUsername()), this.getUsername());
 
         // Count the occurrences of each genre in liked songs, followed playlists
         // and user playlists
-        HashMap<String, Integer> topGenres = countTopGenres();
-
-        // Sort genres based on occurrence count
-        topGenres = keepHashesSorted(topGenres);
+        RankedCounter<String> topGenres = countTopGenres();
 
         // Limit the number of top genres to consider
         int maxGenres = Math.min(topGenres.size(), 3);
@@ -926,10 +891,10 @@ public final class User extends UserAbstract implements Observer {
     /**
      * Counts the occurrences of each genre in liked songs, followed playlists, and user playlists.
      *
-     * @return A HashMap containing genres and their occurrence counts.
+     * @return A counter of the genres, ranked by their occurrence counts.
      */
-    private HashMap<String, Integer> countTopGenres() {
-        HashMap<String, Integer> topGenres = new HashMap<>();
+    private RankedCounter<String> countTopGenres() {
+        RankedCounter<String> topGenres = new RankedCounter<>();
 
         // Count genres in liked songs
         countGenresInSongs(this.getLikedSongs(), topGenres);
@@ -948,16 +913,15 @@ public final class User extends UserAbstract implements Observer {
     }
 
     /**
-     * Counts the occurrences of each genre in a list of songs and updates the genre count HashMap.
+     * Counts the occurrences of each genre in a list of songs and updates the genre counter.
      *
      * @param songs     The list of songs to analyze.
-     * @param topGenres The HashMap to update with genre occurrences.
+     * @param topGenres The counter to update with genre occurrences.
      */
-    private void countGenresInSongs(final List<Song> songs,
-                                    final HashMap<String, Integer> topGenres) {
+    private void countGenresInSongs(final Collection<Song> songs,
+                                    final RankedCounter<String> topGenres) {
         for (Song song : songs) {
-            String genre = song.getGenre();
-            topGenres.put(genre, topGenres.getOrDefault(genre, 0) + 1);
+            topGenres.increment(song.getGenre());
         }
     }
 
@@ -965,21 +929,22 @@ public final class User extends UserAbstract implements Observer {
      * Adds songs from the top genres to the recommendations playlist.
      *
      * @param recommendationsPlaylist The playlist to update with recommended songs.
-     * @param topGenres              The sorted top genres HashMap.
+     * @param topGenres              The ranked top genres.
      * @param maxGenres              The maximum number of top genres to consider.
      */
     private void addSongsFromTopGenres(final Playlist recommendationsPlaylist,
-                                       final HashMap<String, Integer> topGenres,
+                                       final RankedCounter<String> topGenres,
                                        final int maxGenres) {
         int maxSongsPerGenre = MAX_ADS; // Maximum songs to include per genre
         int addedSongs = 0;
 
-        for (Map.Entry<String, Integer> entry : topGenres.entrySet()) {
+        RankedCounter.Cursor<String> genres = topGenres.top(topGenres.size());
+        while (genres.next()) {
             if (addedSongs >= maxGenres * maxSongsPerGenre) {
                 break;
             }
 
-            List<Song> songs = getSongsByGenre(entry.getKey());
+            List<Song> songs = getSongsByGenre(genres.getKey());
             int maxSongs = Math.min(songs.size(), maxSongsPerGenre);
 
             for (int j = 0; j < maxSongs; j++) {
@@ -1004,16 +969,13 @@ public final class User extends UserAbstract implements Observer {
 
         // Get the current playing song and its artist
         Song song = (Song) this.getPlayer().getSource().getAudioFile();
-        Artist artist = Admin.getInstance().getArtist(song.getArtist());
+        Artist artist = context.getAdmin().getArtist(song.getArtist());
 
         // Retrieve the top fans for the artist
-        HashMap<String, Integer> fans = artist.getTopFans();
-
-        // Sort the fans based on their activity
-        fans = keepHashesSorted(fans);
+        RankedCounter<Symbol> fans = artist.getTopFans();
 
         // Create a playlist for Fan Club recommendations
-        Playlist playlist = new Playlist(
+        Playlist playlist = new Playlist(context.getAdmin().nextPlaylistId(),
                 String.format("%s Fan Club recommendations", artist.getUsername()),
                 artist.getUsername());
 
@@ -1030,32 +992,30 @@ public final class User extends UserAbstract implements Observer {
      * Adds songs from the liked songs of the top fans to the Fan Club recommendations playlist.
      *
      * @param playlist The Fan Club recommendations playlist to update.
-     * @param fans     The sorted top fans HashMap.
+     * @param fans     The ranked top fans.
      * @param maxFans  The maximum number of top fans to consider.
      */
     private void addSongsFromTopFans(final Playlist playlist,
-                                     final HashMap<String, Integer> fans, final
+                                     final RankedCounter<Symbol> fans, final
                                      int maxFans) {
         int maxSongsPerFan = MAX_ADS; // Maximum songs to include per fan
         int addedSongs = 0;
 
-        for (Map.Entry<String, Integer> entry : fans.entrySet()) {
+        RankedCounter.Cursor<Symbol> topFans = fans.top(fans.size());
+        while (topFans.next()) {
             if (addedSongs >= maxFans * maxSongsPerFan) {
                 break;
             }
 
             // Get the user associated with the fan
-            User user = Admin.getInstance().getUser(entry.getKey());
+            User user = context.getAdmin().getUser(topFans.getKey().getName());
 
             // Retrieve liked songs of the user
-            ArrayList<Song> songs = user.getLikedSongs();
+            Iterator<Song> songs = user.getLikedSongs().iterator();
 
-            // Limit the number of songs to consider per fan
-            int maxSongs = Math.min(songs.size(), maxSongsPerFan);
-
-            // Add songs to the Fan Club recommendations playlist
-            for (int j = 0; j < maxSongs; j++) {
-                playlist.addSong(songs.get(j));
+            // Add at most maxSongsPerFan songs to the Fan Club recommendations playlist
+            for (int j = 0; j < maxSongsPerFan && songs.hasNext(); j++) {
+                playlist.addSong(songs.next());
                 addedSongs++;
             }
         }
@@ -1084,7 +1044,7 @@ public final class User extends UserAbstract implements Observer {
                 if (playlist == null || playlist.getSongs().size() == 0) {
                     return false;
                 }
-                if (playlist.equals(getPlaylistRecommendations())) {
+                if (playlist.hasSameContent(getPlaylistRecommendations())) {
                     return false;
                 }
             }
@@ -1093,7 +1053,7 @@ public final class User extends UserAbstract implements Observer {
                 if (playlist == null || playlist.getSongs().size() == 0) {
                     return false;
                 }
-                if (playlist.equals(getPlaylistRecommendations())) {
+                if (playlist.hasSameContent(getPlaylistRecommendations())) {
                     return false;
                 }
             }
@@ -1,22 +1,31 @@
 package app.user;
 
+import app.catalog.Symbol;
+import app.catalog.SymbolTable;
+
 /**
  * The type User abstract.
  */
 public abstract class UserAbstract {
+    private final SymbolTable symbols;
     private String username;
+    private Symbol usernameSymbol;
     private int age;
     private String city;
 
     /**
      * Instantiates a new User abstract.
      *
+     * @param symbols  the symbol table of the run, the username is interned in
      * @param username the username
      * @param age      the age
      * @param city     the city
      */
-    public UserAbstract(final String username, final int age, final String city) {
-        this.username = username;
+    public UserAbstract(final SymbolTable symbols, final String username, final int age,
+                        final String city) {
+        this.symbols = symbols;
+        this.usernameSymbol = symbols.intern(username);
+        this.username = usernameSymbol == null ? null : usernameSymbol.getName();
         this.age = age;
         this.city = city;
     }
@@ -36,7 +45,17 @@ public abstract class UserAbstract {
      * @param username the username
      */
     public void setUsername(final String username) {
-        this.username = username;
+        this.usernameSymbol = symbols.intern(username);
+        this.username = usernameSymbol == null ? null : usernameSymbol.getName();
+    }
+
+    /**
+     * Gets username symbol.
+     *
+     * @return the interned username
+     */
+    public Symbol getUsernameSymbol() {
+        return usernameSymbol;
     }
 
     /**
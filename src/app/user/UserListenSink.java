@@ -0,0 +1,30 @@
+package app.user;
+
+import app.audio.Files.Song;
+import app.player.ListenEvent;
+import app.player.ListenSink;
+
+import java.util.List;
+
+/**
+ * Counts the songs, albums, artists, genres and episodes every user listened to.
+ */
+public final class UserListenSink implements ListenSink {
+    @Override
+    public void apply(final List<ListenEvent> events) {
+        for (ListenEvent event : events) {
+            User user = event.getUser();
+            user.setHasStatistics(true);
+
+            Song song = event.getSong();
+            if (song == null) {
+                user.getTopEpisodes().increment(event.getEpisode().getName());
+                continue;
+            }
+            user.getTopArtists().increment(song.getArtistSymbol());
+            user.getTopGenres().increment(song.getGenreSymbol());
+            user.getTopSongs().increment(song.getName());
+            user.getTopAlbums().increment(song.getAlbumSymbol());
+        }
+    }
+}
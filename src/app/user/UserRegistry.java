@@ -0,0 +1,120 @@
+package app.user;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The accounts of a run, indexed by username.
+ *
+ * Every account is kept in a single username index, so finding one costs the same no matter
+ * how many accounts exist, and in a list per role that keeps the order the accounts were added
+ * in, which is the order they are listed and iterated in.
+ */
+public final class UserRegistry {
+    private final Map<String, UserAbstract> byUsername = new HashMap<>();
+    private final List<User> users = new ArrayList<>();
+    private final List<Artist> artists = new ArrayList<>();
+    private final List<Host> hosts = new ArrayList<>();
+
+    /**
+     * Adds an account.
+     *
+     * @param account the account
+     */
+    public void add(final UserAbstract account) {
+        byUsername.putIfAbsent(account.getUsername(), account);
+        if (account instanceof User user) {
+            users.add(user);
+        } else if (account instanceof Artist artist) {
+            artists.add(artist);
+        } else if (account instanceof Host host) {
+            hosts.add(host);
+        }
+    }
+
+    /**
+     * Removes an account.
+     *
+     * @param account the account
+     */
+    public void remove(final UserAbstract account) {
+        byUsername.remove(account.getUsername(), account);
+        if (account instanceof User) {
+            users.remove(account);
+        } else if (account instanceof Artist) {
+            artists.remove(account);
+        } else if (account instanceof Host) {
+            hosts.remove(account);
+        }
+    }
+
+    /**
+     * Gets the account with a username.
+     *
+     * @param username the username
+     * @return the account, or null if there is none
+     */
+    public UserAbstract get(final String username) {
+        return byUsername.get(username);
+    }
+
+    /**
+     * Gets the normal user with a username.
+     *
+     * @param username the username
+     * @return the user, or null if there is none
+     */
+    public User getUser(final String username) {
+        return byUsername.get(username) instanceof User user ? user : null;
+    }
+
+    /**
+     * Gets the artist with a username.
+     *
+     * @param username the username
+     * @return the artist, or null if there is none
+     */
+    public Artist getArtist(final String username) {
+        return byUsername.get(username) instanceof Artist artist ? artist : null;
+    }
+
+    /**
+     * Gets the host with a username.
+     *
+     * @param username the username
+     * @return the host, or null if there is none
+     */
+    public Host getHost(final String username) {
+        return byUsername.get(username) instanceof Host host ? host : null;
+    }
+
+    /**
+     * Gets users.
+     *
+     * @return a read-only view of the normal users, in the order they were added
+     */
+    public List<User> getUsers() {
+        return Collections.unmodifiableList(users);
+    }
+
+    /**
+     * Gets artists.
+     *
+     * @return a read-only view of the artists, in the order they were added
+     */
+    public List<Artist> getArtists() {
+        return Collections.unmodifiableList(artists);
+    }
+
+    /**
+     * Gets hosts.
+     *
+     * @return a read-only view of the hosts, in the order they were added
+     */
+    public List<Host> getHosts() {
+        return Collections.unmodifiableList(hosts);
+    }
+}
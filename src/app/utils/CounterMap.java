@@ -0,0 +1,167 @@
+package app.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Counts how many times each key was seen, with the counts stored as plain ints.
+ *
+ * Keys and counts are kept in two dense arrays, in the order the keys were first seen, and an
+ * open-addressing table with linear probing maps every key to its position in them. An
+ * increment hashes the key once and updates the count in place, without boxing it.
+ *
+ * @param <K> the type of the keys, which may include null
+ */
+public final class CounterMap<K> {
+    private static final int MIN_CAPACITY = 8;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+    private static final int HALF_INT_BITS = 16;
+    private Object[] keys = new Object[MIN_CAPACITY];
+    private int[] counts = new int[MIN_CAPACITY];
+    private int[] slots = new int[MIN_CAPACITY * 2];
+    private int size = 0;
+
+    private static int hash(final Object key) {
+        int hash = Objects.hashCode(key) * HASH_MULTIPLIER;
+        return hash ^ (hash >>> HALF_INT_BITS);
+    }
+
+    /**
+     * Finds the slot of a key, or the empty slot where it would go.
+     */
+    private int slotOf(final Object key) {
+        int mask = slots.length - 1;
+        int slot = hash(key) & mask;
+        while (slots[slot] != 0 && !Objects.equals(keys[slots[slot] - 1], key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Counts one more occurrence of a key.
+     *
+     * @param key the key
+     * @return the new count of the key
+     */
+    public int increment(final K key) {
+        int slot = slotOf(key);
+        if (slots[slot] != 0) {
+            return ++counts[slots[slot] - 1];
+        }
+
+        if (size == keys.length) {
+            grow();
+            slot = slotOf(key);
+        }
+        keys[size] = key;
+        counts[size] = 1;
+        slots[slot] = ++size;
+        return 1;
+    }
+
+    private void grow() {
+        keys = Arrays.copyOf(keys, keys.length * 2);
+        counts = Arrays.copyOf(counts, counts.length * 2);
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = hash(keys[index]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+        }
+    }
+
+    /**
+     * Gets the count of a key.
+     *
+     * @param key the key
+     * @return the number of times the key was seen
+     */
+    public int get(final K key) {
+        int index = slots[slotOf(key)];
+        return index == 0 ? 0 : counts[index - 1];
+    }
+
+    /**
+     * Gets size.
+     *
+     * @return the number of distinct keys seen
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether no key was seen.
+     *
+     * @return true if the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the key at a position, keys being numbered in the order they were first seen.
+     *
+     * @param index the position, lower than the size
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    public K getKey(final int index) {
+        return (K) keys[index];
+    }
+
+    /**
+     * Gets the count of the key at a position.
+     *
+     * @param index the position, lower than the size
+     * @return the count
+     */
+    public int getCount(final int index) {
+        return counts[index];
+    }
+
+    /**
+     * Gets the sum of all counts.
+     *
+     * @return the total number of occurrences seen
+     */
+    public long total() {
+        long total = 0;
+        for (int index = 0; index < size; index++) {
+            total += counts[index];
+        }
+        return total;
+    }
+
+    /**
+     * Forgets every key.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(slots, 0);
+        size = 0;
+    }
+
+    /**
+     * Copies the counts to a hash map.
+     *
+     * The map iterates in hash order, not in the order the keys were first seen. It iterates
+     * like a hash map filled with the same keys by counting them one listen at a time, since
+     * the order of a hash map only depends on its keys and the order they were put in, and
+     * they are put here in the same order.
+     *
+     * @return a new hash map of the keys to their counts
+     */
+    public HashMap<K, Integer> toHashMap() {
+        HashMap<K, Integer> map = new HashMap<>();
+        for (int index = 0; index < size; index++) {
+            map.put(getKey(index), counts[index]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,353 @@
+package app.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Counts how many times each key was seen and ranks the keys by count, highest first, and then
+ * by key, in natural order.
+ *
+ * Keys with the same count share a bucket, and the buckets are kept in a list ordered by count.
+ * A key always moves from its bucket to the next one up, so an increment costs O(1). Reading the
+ * top keys walks the buckets from the highest count and only orders the keys of the buckets it
+ * needs.
+ *
+ * By default every key is counted exactly. A counter can instead be given a capacity, in which
+ * case it keeps at most that many keys with the Space-Saving algorithm: a new key replaces the
+ * key with the lowest count, the one that reached that count first, and takes over its count.
+ * Counts can then be overestimated, by at most the error reported for each key, which is never
+ * more than the total number of increments divided by the capacity. Every key seen more often
+ * than that is guaranteed to be kept.
+ *
+ * @param <K> the type of the keys
+ */
+public final class RankedCounter<K extends Comparable<? super K>> {
+    private final Map<K, Bucket<K>> buckets = new HashMap<>();
+    private final int capacity;
+    private final Map<K, Integer> errors;
+    private Bucket<K> highest;
+    private Bucket<K> lowest;
+    private long total = 0;
+
+    /**
+     * The keys seen the same number of times.
+     *
+     * @param <K> the type of the keys
+     */
+    private static final class Bucket<K> {
+        private final int count;
+        private final Set<K> keys = new LinkedHashSet<>();
+        private Bucket<K> higher;
+        private Bucket<K> lower;
+
+        Bucket(final int count) {
+            this.count = count;
+        }
+    }
+
+    /**
+     * Instantiates a new Ranked counter that counts every key exactly.
+     */
+    public RankedCounter() {
+        this.capacity = 0;
+        this.errors = null;
+    }
+
+    /**
+     * Instantiates a new Ranked counter that keeps at most a number of keys, with approximate
+     * counts.
+     *
+     * @param capacity the maximum number of keys kept, or 0 to count every key exactly
+     */
+    public RankedCounter(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        this.capacity = capacity;
+        this.errors = capacity == 0 ? null : new HashMap<>();
+    }
+
+    /**
+     * Counts one more occurrence of a key.
+     *
+     * @param key the key
+     */
+    public void increment(final K key) {
+        total++;
+        Bucket<K> bucket = buckets.get(key);
+        if (bucket == null && capacity > 0 && buckets.size() == capacity) {
+            bucket = evict();
+            errors.put(key, bucket.count);
+        }
+        int count = bucket == null ? 1 : bucket.count + 1;
+        Bucket<K> higher = bucket == null ? lowest : bucket.higher;
+        Bucket<K> lower = bucket;
+        Bucket<K> target = higher != null && higher.count == count ? higher
+                                                                   : link(count, higher, lower);
+        target.keys.add(key);
+        buckets.put(key, target);
+
+        if (bucket != null) {
+            bucket.keys.remove(key);
+            if (bucket.keys.isEmpty()) {
+                unlink(bucket);
+            }
+        }
+    }
+
+    /**
+     * Forgets the key ranked the lowest for the longest time, to make room for a new key that
+     * takes over its count. The bucket of the key is returned even if it is left empty.
+     */
+    private Bucket<K> evict() {
+        Bucket<K> bucket = lowest;
+        K key = bucket.keys.iterator().next();
+        bucket.keys.remove(key);
+        buckets.remove(key);
+        errors.remove(key);
+        return bucket;
+    }
+
+    private Bucket<K> link(final int count, final Bucket<K> higher, final Bucket<K> lower) {
+        Bucket<K> bucket = new Bucket<>(count);
+        bucket.higher = higher;
+        bucket.lower = lower;
+        if (higher == null) {
+            highest = bucket;
+        } else {
+            higher.lower = bucket;
+        }
+        if (lower == null) {
+            lowest = bucket;
+        } else {
+            lower.higher = bucket;
+        }
+        return bucket;
+    }
+
+    private void unlink(final Bucket<K> bucket) {
+        if (bucket.higher == null) {
+            highest = bucket.lower;
+        } else {
+            bucket.higher.lower = bucket.lower;
+        }
+        if (bucket.lower == null) {
+            lowest = bucket.higher;
+        } else {
+            bucket.lower.higher = bucket.higher;
+        }
+    }
+
+    /**
+     * Gets the count of a key.
+     *
+     * @param key the key
+     * @return the number of times the key was seen
+     */
+    public int get(final K key) {
+        Bucket<K> bucket = buckets.get(key);
+        return bucket == null ? 0 : bucket.count;
+    }
+
+    /**
+     * Gets size.
+     *
+     * @return the number of distinct keys seen, or, when the counter has a capacity, the number
+     *         of keys kept, which is a lower bound of the keys seen
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Checks whether every key is counted exactly.
+     *
+     * @return true if the counter has no capacity
+     */
+    public boolean isExact() {
+        return capacity == 0;
+    }
+
+    /**
+     * Gets total.
+     *
+     * @return the number of increments
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the most the count of a key can be overestimated by.
+     *
+     * @param key the key
+     * @return 0 for an exact count, otherwise the count the key took over when it was last
+     *         kept; for a key that is not kept, the most it could have been seen
+     */
+    public int getError(final K key) {
+        if (errors == null) {
+            return 0;
+        }
+        Integer error = errors.get(key);
+        if (error != null) {
+            return error;
+        }
+        return buckets.containsKey(key) ? 0 : getMaxError();
+    }
+
+    /**
+     * Gets the most the count of any key can be overestimated by.
+     *
+     * @return 0 while the counter is exact or has never been full, otherwise the lowest count
+     *         kept, which is at most the total divided by the capacity
+     */
+    public int getMaxError() {
+        if (errors == null || buckets.size() < capacity || lowest == null) {
+            return 0;
+        }
+        return lowest.count;
+    }
+
+    /**
+     * Visits the top keys, highest count first and then in key order.
+     *
+     * @param limit   the maximum number of keys to visit
+     * @param visitor the visitor of every key and its count
+     */
+    public void forEachTop(final int limit, final ObjIntConsumer<? super K> visitor) {
+        Cursor<K> cursor = top(limit);
+        while (cursor.next()) {
+            visitor.accept(cursor.getKey(), cursor.getCount());
+        }
+    }
+
+    /**
+     * Gets the names of the top keys.
+     *
+     * @param limit the maximum number of keys
+     * @return the names of the keys, in rank order
+     */
+    public ArrayList<String> topNames(final int limit) {
+        ArrayList<String> names = new ArrayList<>(Math.min(limit, size()));
+        forEachTop(limit, (key, count) -> names.add(key.toString()));
+        return names;
+    }
+
+    /**
+     * Gets the names of the top keys with their counts.
+     *
+     * @param limit the maximum number of keys
+     * @return a new map of the names of the keys to their counts, in rank order
+     */
+    public LinkedHashMap<String, Integer> topCounts(final int limit) {
+        LinkedHashMap<String, Integer> counts = new LinkedHashMap<>();
+        forEachTop(limit, (key, count) -> counts.put(key.toString(), count));
+        return counts;
+    }
+
+    /**
+     * Gets a ranked view of the top keys, highest count first and then in key order.
+     *
+     * The view reads the counter as it goes and only orders the keys of a bucket once it
+     * reaches that bucket, so stopping early costs nothing for the keys left behind. The counter
+     * must not change while the view is in use.
+     *
+     * @param limit the maximum number of keys to go over
+     * @return a cursor placed before the first key
+     */
+    public Cursor<K> top(final int limit) {
+        return new Cursor<>(highest, limit);
+    }
+
+    /**
+     * A cursor over the keys of a counter, in rank order.
+     *
+     * @param <K> the type of the keys
+     */
+    public static final class Cursor<K extends Comparable<? super K>> {
+        private Bucket<K> bucket;
+        private int remaining;
+        private List<K> keys = Collections.emptyList();
+        private int index = 0;
+
+        private Cursor(final Bucket<K> bucket, final int limit) {
+            this.bucket = bucket;
+            this.remaining = limit;
+        }
+
+        /**
+         * Moves to the next key.
+         *
+         * @return true if there is a next key, false if the view is over
+         */
+        public boolean next() {
+            if (remaining <= 0) {
+                return false;
+            }
+            if (index + 1 < keys.size()) {
+                index++;
+                remaining--;
+                return true;
+            }
+            if (!keys.isEmpty()) {
+                bucket = bucket.lower;
+            }
+            if (bucket == null) {
+                return false;
+            }
+
+            keys = smallest(bucket.keys, remaining);
+            index = 0;
+            remaining--;
+            return true;
+        }
+
+        /**
+         * Gets key.
+         *
+         * @return the current key
+         */
+        public K getKey() {
+            return keys.get(index);
+        }
+
+        /**
+         * Gets count.
+         *
+         * @return the count of the current key
+         */
+        public int getCount() {
+            return bucket.count;
+        }
+    }
+
+    private static <K extends Comparable<? super K>> List<K> smallest(final Set<K> keys,
+                                                                     final int limit) {
+        if (keys.size() <= limit) {
+            List<K> sorted = new ArrayList<>(keys);
+            Collections.sort(sorted);
+            return sorted;
+        }
+
+        PriorityQueue<K> kept = new PriorityQueue<>(limit, Collections.reverseOrder());
+        for (K key : keys) {
+            if (kept.size() < limit) {
+                kept.add(key);
+            } else if (key.compareTo(kept.peek()) < 0) {
+                kept.poll();
+                kept.add(key);
+            }
+        }
+        List<K> sorted = new ArrayList<>(kept);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 
 public final class CommandInput {
     private String command;
+    private CommandType commandType;
     private String username;
     private Integer timestamp;
     private String type; // song / playlist / podcast / user / artist/ host
@@ -43,6 +44,11 @@ public final class CommandInput {
 
     public void setCommand(final String command) {
         this.command = command;
+        this.commandType = CommandType.fromName(command);
+    }
+
+    public CommandType getCommandType() {
+        return commandType;
     }
 
     public String getUsername() {
@@ -0,0 +1,69 @@
+package fileio.input;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams the commands of an input file one at a time.
+ *
+ * The file is expected to hold a single JSON array of commands. Instead of binding the whole
+ * array up front, the reader keeps a parser positioned inside the array and decodes the next
+ * element only when it is requested, so memory use does not depend on the length of the trace.
+ * Elements are decoded by {@link InputDecoder}, without data binding.
+ */
+public final class CommandReader implements CommandSource {
+    private final JsonParser parser;
+    private JsonToken nextToken;
+
+    /**
+     * Instantiates a new Command reader.
+     *
+     * @param objectMapper the object mapper whose factory creates the parser
+     * @param file         the input file
+     * @throws IOException if the file can't be opened or doesn't start with an array
+     */
+    public CommandReader(final ObjectMapper objectMapper, final File file) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(file);
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new IOException("Expected an array of commands in " + file.getName());
+        }
+        advance();
+    }
+
+    private void advance() throws IOException {
+        nextToken = parser.nextToken();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextToken == JsonToken.START_OBJECT;
+    }
+
+    @Override
+    public CommandInput next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            CommandInput command = InputDecoder.readCommand(parser);
+            advance();
+            return command;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,10 @@
+package fileio.input;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * A source of commands read one at a time from an input trace.
+ */
+public interface CommandSource extends Iterator<CommandInput>, Closeable {
+}
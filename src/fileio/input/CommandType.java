@@ -0,0 +1,99 @@
+package fileio.input;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The commands understood by the platform.
+ *
+ * The name of a command is resolved to its type once, when the command is decoded, so the
+ * rest of the program can dispatch on the type instead of comparing strings.
+ */
+public enum CommandType {
+    SEARCH("search"),
+    SELECT("select"),
+    LOAD("load"),
+    PLAY_PAUSE("playPause"),
+    REPEAT("repeat"),
+    SHUFFLE("shuffle"),
+    FORWARD("forward"),
+    BACKWARD("backward"),
+    LIKE("like"),
+    NEXT("next"),
+    PREV("prev"),
+    CREATE_PLAYLIST("createPlaylist"),
+    ADD_REMOVE_IN_PLAYLIST("addRemoveInPlaylist"),
+    SWITCH_VISIBILITY("switchVisibility"),
+    SHOW_PLAYLISTS("showPlaylists"),
+    FOLLOW("follow"),
+    STATUS("status"),
+    SHOW_PREFERRED_SONGS("showPreferredSongs"),
+    GET_PREFERRED_GENRE("getPreferredGenre"),
+    GET_TOP5_SONGS("getTop5Songs"),
+    GET_TOP5_PLAYLISTS("getTop5Playlists"),
+    SWITCH_CONNECTION_STATUS("switchConnectionStatus"),
+    ADD_USER("addUser"),
+    DELETE_USER("deleteUser"),
+    ADD_PODCAST("addPodcast"),
+    REMOVE_PODCAST("removePodcast"),
+    ADD_ANNOUNCEMENT("addAnnouncement"),
+    REMOVE_ANNOUNCEMENT("removeAnnouncement"),
+    ADD_ALBUM("addAlbum"),
+    REMOVE_ALBUM("removeAlbum"),
+    ADD_EVENT("addEvent"),
+    REMOVE_EVENT("removeEvent"),
+    ADD_MERCH("addMerch"),
+    CHANGE_PAGE("changePage"),
+    PRINT_CURRENT_PAGE("printCurrentPage"),
+    GET_TOP5_ALBUMS("getTop5Albums"),
+    GET_TOP5_ARTISTS("getTop5Artists"),
+    GET_ALL_USERS("getAllUsers"),
+    GET_ONLINE_USERS("getOnlineUsers"),
+    SHOW_ALBUMS("showAlbums"),
+    SHOW_PODCASTS("showPodcasts"),
+    WRAPPED("wrapped"),
+    BUY_PREMIUM("buyPremium"),
+    CANCEL_PREMIUM("cancelPremium"),
+    AD_BREAK("adBreak"),
+    BUY_MERCH("buyMerch"),
+    SEE_MERCH("seeMerch"),
+    UPDATE_RECOMMENDATIONS("updateRecommendations"),
+    SUBSCRIBE("subscribe"),
+    GET_NOTIFICATIONS("getNotifications"),
+    PREVIOUS_PAGE("previousPage"),
+    NEXT_PAGE("nextPage"),
+    LOAD_RECOMMENDATIONS("loadRecommendations");
+
+    private static final Map<String, CommandType> BY_NAME = new HashMap<>();
+
+    static {
+        for (CommandType type : values()) {
+            BY_NAME.put(type.commandName, type);
+        }
+    }
+
+    private final String commandName;
+
+    CommandType(final String commandName) {
+        this.commandName = commandName;
+    }
+
+    /**
+     * Gets command name.
+     *
+     * @return the name of the command, as it appears in the input and output files
+     */
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Resolves the name of a command to its type.
+     *
+     * @param commandName the command name
+     * @return the command type, or null if the command is unknown
+     */
+    public static CommandType fromName(final String commandName) {
+        return commandName == null ? null : BY_NAME.get(commandName);
+    }
+}
@@ -1,6 +1,7 @@
 package fileio.input;
 
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.ArrayList;
 
@@ -15,6 +16,7 @@ public final class FiltersInput {
     private String owner; // pentru search playlist si podcast
     private String followers; // pentru search playlist -> followers
     @Getter
+    @Setter
     private String description; // pentru search album -> followers
 
     public FiltersInput() {
@@ -0,0 +1,304 @@
+package fileio.input;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Hand-written streaming decoders for the input types.
+ *
+ * Each decoder walks the fields of one object and switches on their names, calling the same
+ * setters data binding would, so it behaves like {@code objectMapper.readValue} for these types
+ * without any reflection or intermediate trees. Numbers and strings are coerced the way data
+ * binding does by default, and unknown fields are rejected.
+ */
+public final class InputDecoder {
+    /**
+     * Decodes a value the parser is positioned on.
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    public interface Decoder<T> {
+        /**
+         * Decodes the value at the current token of the parser.
+         *
+         * @param parser the parser, positioned on the first token of the value
+         * @return the value
+         * @throws IOException if the value can't be decoded
+         */
+        T decode(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * for coding style
+     */
+    private InputDecoder() {
+    }
+
+    /**
+     * Decodes a command.
+     *
+     * @param parser the parser, positioned on the start of the command object
+     * @return the command input
+     * @throws IOException if the command can't be decoded
+     */
+    public static CommandInput readCommand(final JsonParser parser) throws IOException {
+        expectObject(parser, CommandInput.class);
+        CommandInput command = new CommandInput();
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "command" -> command.setCommand(readString(parser));
+                case "username" -> command.setUsername(readString(parser));
+                case "timestamp" -> command.setTimestamp(readInteger(parser));
+                case "type" -> command.setType(readString(parser));
+                case "filters" -> command.setFilters(readNullable(parser,
+                                                                  InputDecoder::readFilters));
+                case "itemNumber" -> command.setItemNumber(readInteger(parser));
+                case "repeatMode" -> command.setRepeatMode(readInteger(parser));
+                case "playlistId" -> command.setPlaylistId(readInteger(parser));
+                case "playlistName" -> command.setPlaylistName(readString(parser));
+                case "seed" -> command.setSeed(readInteger(parser));
+                case "age" -> command.setAge(readInt(parser));
+                case "city" -> command.setCity(readString(parser));
+                case "episodes" -> command.setEpisodes(readList(parser,
+                                                                InputDecoder::readEpisode));
+                case "name" -> command.setName(readString(parser));
+                case "price" -> command.setPrice(readInteger(parser));
+                case "date" -> command.setDate(readString(parser));
+                case "description" -> command.setDescription(readString(parser));
+                case "songs" -> command.setSongs(readList(parser, InputDecoder::readSong));
+                case "releaseYear" -> command.setReleaseYear(readInteger(parser));
+                case "nextPage" -> command.setNextPage(readString(parser));
+                case "recommendationType" -> command.setRecommendationType(readString(parser));
+                default -> throw unknownField(parser, field, CommandInput.class);
+            }
+        }
+        return command;
+    }
+
+    /**
+     * Decodes search filters.
+     *
+     * @param parser the parser, positioned on the start of the filters object
+     * @return the filters input
+     * @throws IOException if the filters can't be decoded
+     */
+    public static FiltersInput readFilters(final JsonParser parser) throws IOException {
+        expectObject(parser, FiltersInput.class);
+        FiltersInput filters = new FiltersInput();
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "name" -> filters.setName(readString(parser));
+                case "album" -> filters.setAlbum(readString(parser));
+                case "tags" -> filters.setTags(readList(parser, InputDecoder::readString));
+                case "lyrics" -> filters.setLyrics(readString(parser));
+                case "genre" -> filters.setGenre(readString(parser));
+                case "releaseYear" -> filters.setReleaseYear(readString(parser));
+                case "artist" -> filters.setArtist(readString(parser));
+                case "owner" -> filters.setOwner(readString(parser));
+                case "followers" -> filters.setFollowers(readString(parser));
+                case "description" -> filters.setDescription(readString(parser));
+                default -> throw unknownField(parser, field, FiltersInput.class);
+            }
+        }
+        return filters;
+    }
+
+    /**
+     * Decodes a song.
+     *
+     * @param parser the parser, positioned on the start of the song object
+     * @return the song input
+     * @throws IOException if the song can't be decoded
+     */
+    public static SongInput readSong(final JsonParser parser) throws IOException {
+        expectObject(parser, SongInput.class);
+        SongInput song = new SongInput();
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "name" -> song.setName(readString(parser));
+                case "duration" -> song.setDuration(readInteger(parser));
+                case "album" -> song.setAlbum(readString(parser));
+                case "tags" -> song.setTags(readList(parser, InputDecoder::readString));
+                case "lyrics" -> song.setLyrics(readString(parser));
+                case "genre" -> song.setGenre(readString(parser));
+                case "releaseYear" -> song.setReleaseYear(readInt(parser));
+                case "artist" -> song.setArtist(readString(parser));
+                default -> throw unknownField(parser, field, SongInput.class);
+            }
+        }
+        return song;
+    }
+
+    /**
+     * Decodes an episode.
+     *
+     * @param parser the parser, positioned on the start of the episode object
+     * @return the episode input
+     * @throws IOException if the episode can't be decoded
+     */
+    public static EpisodeInput readEpisode(final JsonParser parser) throws IOException {
+        expectObject(parser, EpisodeInput.class);
+        EpisodeInput episode = new EpisodeInput();
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "name" -> episode.setName(readString(parser));
+                case "duration" -> episode.setDuration(readInteger(parser));
+                case "description" -> episode.setDescription(readString(parser));
+                default -> throw unknownField(parser, field, EpisodeInput.class);
+            }
+        }
+        return episode;
+    }
+
+    /**
+     * Decodes a podcast.
+     *
+     * @param parser the parser, positioned on the start of the podcast object
+     * @return the podcast input
+     * @throws IOException if the podcast can't be decoded
+     */
+    public static PodcastInput readPodcast(final JsonParser parser) throws IOException {
+        expectObject(parser, PodcastInput.class);
+        PodcastInput podcast = new PodcastInput();
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "name" -> podcast.setName(readString(parser));
+                case "owner" -> podcast.setOwner(readString(parser));
+                case "episodes" -> podcast.setEpisodes(readList(parser,
+                                                                InputDecoder::readEpisode));
+                default -> throw unknownField(parser, field, PodcastInput.class);
+            }
+        }
+        return podcast;
+    }
+
+    /**
+     * Decodes a user of the library.
+     *
+     * @param parser the parser, positioned on the start of the user object
+     * @return the user input
+     * @throws IOException if the user can't be decoded
+     */
+    public static UserInput readUser(final JsonParser parser) throws IOException {
+        expectObject(parser, UserInput.class);
+        UserInput user = new UserInput();
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (field) {
+                case "username" -> user.setUsername(readString(parser));
+                case "age" -> user.setAge(readInt(parser));
+                case "city" -> user.setCity(readString(parser));
+                default -> throw unknownField(parser, field, UserInput.class);
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Decodes an array.
+     *
+     * @param parser  the parser, positioned on the start of the array
+     * @param decoder the decoder of the elements
+     * @param <T>     the type of the elements
+     * @return the elements, or null if the array is null
+     * @throws IOException if an element can't be decoded
+     */
+    public static <T> ArrayList<T> readList(final JsonParser parser,
+                                            final Decoder<T> decoder) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array");
+        }
+
+        ArrayList<T> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(decoder.decode(parser));
+        }
+        return values;
+    }
+
+    private static <T> T readNullable(final JsonParser parser,
+                                      final Decoder<T> decoder) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return decoder.decode(parser);
+    }
+
+    private static String readString(final JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == null || !token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a string");
+        }
+        return parser.getText();
+    }
+
+    private static Integer readInteger(final JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().trim();
+            if (text.isEmpty()) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(text);
+            } catch (NumberFormatException e) {
+                throw new JsonParseException(parser, "Expected a number, got \"" + text + "\"",
+                                             e);
+            }
+        }
+        throw new JsonParseException(parser, "Expected a number");
+    }
+
+    private static int readInt(final JsonParser parser) throws IOException {
+        Integer value = readInteger(parser);
+        return value == null ? 0 : value;
+    }
+
+    private static void expectObject(final JsonParser parser,
+                                     final Class<?> type) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an object for "
+                                                 + type.getSimpleName());
+        }
+    }
+
+    private static JsonParseException unknownField(final JsonParser parser, final String field,
+                                                   final Class<?> type) {
+        return new JsonParseException(parser, "Unrecognized field \"%s\" of %s"
+                .formatted(field, type.getSimpleName()));
+    }
+}
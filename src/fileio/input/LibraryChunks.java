@@ -0,0 +1,190 @@
+package fileio.input;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A library file split into chunks of songs, podcasts and users that can be decoded
+ * independently, and so in parallel.
+ *
+ * Splitting makes a single pass over the file that only skips over the elements of the arrays
+ * to find where each of them starts and ends, without decoding anything. Decoding, which is the
+ * expensive part, is left to {@link Chunk#decode}.
+ */
+public final class LibraryChunks {
+    private final List<Chunk> songs;
+    private final List<Chunk> podcasts;
+    private final List<Chunk> users;
+
+    /**
+     * A run of consecutive elements of one of the library arrays.
+     */
+    public static final class Chunk {
+        private final byte[] json;
+        private final int firstIndex;
+        private final int size;
+        private final int start;
+        private final int end;
+
+        private Chunk(final byte[] json, final int firstIndex, final int size, final int start,
+                      final int end) {
+            this.json = json;
+            this.firstIndex = firstIndex;
+            this.size = size;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Gets the first index.
+         *
+         * @return the index of the first element of the chunk in its array
+         */
+        public int getFirstIndex() {
+            return firstIndex;
+        }
+
+        /**
+         * Gets the size.
+         *
+         * @return the number of elements in the chunk
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Decodes the elements of the chunk.
+         *
+         * @param objectMapper the object mapper whose factory creates the parser
+         * @param decoder      the decoder of the elements, such as {@link InputDecoder#readSong}
+         * @param <T>          the type of the elements
+         * @return the elements, in file order
+         * @throws IOException if an element can't be decoded
+         */
+        public <T> List<T> decode(final ObjectMapper objectMapper,
+                                  final InputDecoder.Decoder<T> decoder) throws IOException {
+            byte[] array = new byte[end - start + 2];
+            array[0] = '[';
+            System.arraycopy(json, start, array, 1, end - start);
+            array[array.length - 1] = ']';
+
+            try (JsonParser parser = objectMapper.getFactory().createParser(array)) {
+                parser.nextToken();
+                return InputDecoder.readList(parser, decoder);
+            }
+        }
+    }
+
+    private LibraryChunks(final List<Chunk> songs, final List<Chunk> podcasts,
+                          final List<Chunk> users) {
+        this.songs = songs;
+        this.podcasts = podcasts;
+        this.users = users;
+    }
+
+    /**
+     * Splits the contents of a library file.
+     *
+     * @param objectMapper the object mapper whose factory is used to scan the file
+     * @param json         the contents of the library file
+     * @param chunkSize    the maximum number of elements in a chunk
+     * @return the chunks of the library
+     * @throws IOException if the file is not a library
+     */
+    public static LibraryChunks split(final ObjectMapper objectMapper, final byte[] json,
+                                      final int chunkSize) throws IOException {
+        List<Chunk> songs = Collections.emptyList();
+        List<Chunk> podcasts = Collections.emptyList();
+        List<Chunk> users = Collections.emptyList();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a library object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                switch (name) {
+                    case "songs" -> songs = splitArray(parser, json, chunkSize);
+                    case "podcasts" -> podcasts = splitArray(parser, json, chunkSize);
+                    case "users" -> users = splitArray(parser, json, chunkSize);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        return new LibraryChunks(songs, podcasts, users);
+    }
+
+    private static List<Chunk> splitArray(final JsonParser parser, final byte[] json,
+                                          final int chunkSize) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        int index = 0;
+        int firstIndex = 0;
+        int start = 0;
+        int end = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected an object at "
+                                      + parser.currentTokenLocation().offsetDescription());
+            }
+            if (index == firstIndex) {
+                start = (int) parser.currentTokenLocation().getByteOffset();
+            }
+            parser.skipChildren();
+            end = (int) parser.currentLocation().getByteOffset();
+            index++;
+
+            if (index - firstIndex == chunkSize) {
+                chunks.add(new Chunk(json, firstIndex, index - firstIndex, start, end));
+                firstIndex = index;
+            }
+        }
+        if (index > firstIndex) {
+            chunks.add(new Chunk(json, firstIndex, index - firstIndex, start, end));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Gets songs.
+     *
+     * @return the chunks of the songs array, in file order
+     */
+    public List<Chunk> getSongs() {
+        return songs;
+    }
+
+    /**
+     * Gets podcasts.
+     *
+     * @return the chunks of the podcasts array, in file order
+     */
+    public List<Chunk> getPodcasts() {
+        return podcasts;
+    }
+
+    /**
+     * Gets users.
+     *
+     * @return the chunks of the users array, in file order
+     */
+    public List<Chunk> getUsers() {
+        return users;
+    }
+}
@@ -0,0 +1,80 @@
+package fileio.input;
+
+/**
+ * The layout of binary command traces, shared by {@link TraceWriter} and {@link TraceReader}.
+ *
+ * A trace starts with {@link #MAGIC} and {@link #VERSION}, followed by the commands and an
+ * {@link #END} tag. Each command is written as:
+ * <ul>
+ *     <li>a tag: {@link #END}, {@link #UNKNOWN} followed by the command name, or the command
+ *     type's ordinal plus {@link #FIRST_TYPE};</li>
+ *     <li>a mask with one bit per field that is set;</li>
+ *     <li>the fields that are set, in the order of their bits.</li>
+ * </ul>
+ * Numbers are zigzag varints and timestamps are stored as the difference to the timestamp of
+ * the previous command. Strings are interned: a reference of 0 is followed by a new string,
+ * which gets the next index in the table, and any other reference points to the string with
+ * that index plus one. Nested objects (filters, episodes and songs) have their own masks.
+ */
+final class Trace {
+    static final byte[] MAGIC = {'G', 'W', 'T', 'R'};
+    static final int VERSION = 2;
+    static final String EXTENSION = ".trace";
+
+    static final int END = 0;
+    static final int UNKNOWN = 1;
+    static final int FIRST_TYPE = 2;
+    static final int NEW_STRING = 0;
+
+    static final int VARINT_PAYLOAD = 0x7F;
+    static final int VARINT_MORE = 0x80;
+    static final int VARINT_SHIFT = 7;
+
+    static final int USERNAME = 1;
+    static final int TIMESTAMP = 1 << 1;
+    static final int TYPE = 1 << 2;
+    static final int FILTERS = 1 << 3;
+    static final int ITEM_NUMBER = 1 << 4;
+    static final int REPEAT_MODE = 1 << 5;
+    static final int PLAYLIST_ID = 1 << 6;
+    static final int PLAYLIST_NAME = 1 << 7;
+    static final int SEED = 1 << 8;
+    static final int AGE = 1 << 9;
+    static final int CITY = 1 << 10;
+    static final int EPISODES = 1 << 11;
+    static final int NAME = 1 << 12;
+    static final int PRICE = 1 << 13;
+    static final int DATE = 1 << 14;
+    static final int DESCRIPTION = 1 << 15;
+    static final int SONGS = 1 << 16;
+    static final int RELEASE_YEAR = 1 << 17;
+    static final int NEXT_PAGE = 1 << 18;
+    static final int RECOMMENDATION_TYPE = 1 << 19;
+
+    static final int FILTER_NAME = 1;
+    static final int FILTER_ALBUM = 1 << 1;
+    static final int FILTER_TAGS = 1 << 2;
+    static final int FILTER_LYRICS = 1 << 3;
+    static final int FILTER_GENRE = 1 << 4;
+    static final int FILTER_RELEASE_YEAR = 1 << 5;
+    static final int FILTER_ARTIST = 1 << 6;
+    static final int FILTER_OWNER = 1 << 7;
+    static final int FILTER_FOLLOWERS = 1 << 8;
+    static final int FILTER_DESCRIPTION = 1 << 9;
+
+    static final int EPISODE_NAME = 1;
+    static final int EPISODE_DURATION = 1 << 1;
+    static final int EPISODE_DESCRIPTION = 1 << 2;
+
+    static final int SONG_NAME = 1;
+    static final int SONG_DURATION = 1 << 1;
+    static final int SONG_ALBUM = 1 << 2;
+    static final int SONG_TAGS = 1 << 3;
+    static final int SONG_LYRICS = 1 << 4;
+    static final int SONG_GENRE = 1 << 5;
+    static final int SONG_RELEASE_YEAR = 1 << 6;
+    static final int SONG_ARTIST = 1 << 7;
+
+    private Trace() {
+    }
+}
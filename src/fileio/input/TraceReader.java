@@ -0,0 +1,314 @@
+package fileio.input;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Replays the commands of a binary trace written by {@link TraceWriter}.
+ *
+ * Commands are decoded one at a time, like {@link CommandReader} does for JSON inputs, and
+ * every string is decoded once: commands that repeat a username or a name share the same
+ * instance.
+ */
+public final class TraceReader implements CommandSource {
+    /**
+     * The extension of trace files.
+     */
+    public static final String EXTENSION = Trace.EXTENSION;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARINT_SHIFT = 28;
+    private static final CommandType[] TYPES = CommandType.values();
+
+    private final InputStream in;
+    private final ArrayList<String> strings = new ArrayList<>();
+    private int lastTimestamp;
+    private int nextTag;
+
+    /**
+     * Instantiates a new Trace reader.
+     *
+     * @param file the trace file
+     * @throws IOException if the file can't be opened or isn't a trace
+     */
+    public TraceReader(final File file) throws IOException {
+        this.in = new BufferedInputStream(Files.newInputStream(file.toPath()), BUFFER_SIZE);
+
+        try {
+            byte[] magic = in.readNBytes(Trace.MAGIC.length);
+            if (!Arrays.equals(magic, Trace.MAGIC)) {
+                throw new IOException(file.getName() + " is not a command trace");
+            }
+            int version = readVarint();
+            if (version != Trace.VERSION) {
+                throw new IOException("Unsupported trace version " + version + " in "
+                                      + file.getName());
+            }
+            nextTag = readVarint();
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks if a file is a command trace, judging by its name.
+     *
+     * @param fileName the file name
+     * @return true if the file is a trace
+     */
+    public static boolean isTrace(final String fileName) {
+        return fileName.endsWith(EXTENSION);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextTag != Trace.END;
+    }
+
+    @Override
+    public CommandInput next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        try {
+            CommandInput command = readCommand(nextTag);
+            nextTag = readVarint();
+            return command;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CommandInput readCommand(final int tag) throws IOException {
+        CommandInput command = new CommandInput();
+        if (tag == Trace.UNKNOWN) {
+            command.setCommand(readString());
+        } else if (tag >= Trace.FIRST_TYPE && tag - Trace.FIRST_TYPE < TYPES.length) {
+            command.setCommand(TYPES[tag - Trace.FIRST_TYPE].getCommandName());
+        } else {
+            throw new IOException("Unknown command tag " + tag);
+        }
+
+        int mask = readVarint();
+        if ((mask & Trace.USERNAME) != 0) {
+            command.setUsername(readString());
+        }
+        if ((mask & Trace.TIMESTAMP) != 0) {
+            lastTimestamp += readInt();
+            command.setTimestamp(lastTimestamp);
+        }
+        if ((mask & Trace.TYPE) != 0) {
+            command.setType(readString());
+        }
+        if ((mask & Trace.FILTERS) != 0) {
+            command.setFilters(readFilters());
+        }
+        if ((mask & Trace.ITEM_NUMBER) != 0) {
+            command.setItemNumber(readInt());
+        }
+        if ((mask & Trace.REPEAT_MODE) != 0) {
+            command.setRepeatMode(readInt());
+        }
+        if ((mask & Trace.PLAYLIST_ID) != 0) {
+            command.setPlaylistId(readInt());
+        }
+        if ((mask & Trace.PLAYLIST_NAME) != 0) {
+            command.setPlaylistName(readString());
+        }
+        if ((mask & Trace.SEED) != 0) {
+            command.setSeed(readInt());
+        }
+        if ((mask & Trace.AGE) != 0) {
+            command.setAge(readInt());
+        }
+        if ((mask & Trace.CITY) != 0) {
+            command.setCity(readString());
+        }
+        if ((mask & Trace.EPISODES) != 0) {
+            int size = readVarint();
+            ArrayList<EpisodeInput> episodes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                episodes.add(readEpisode());
+            }
+            command.setEpisodes(episodes);
+        }
+        if ((mask & Trace.NAME) != 0) {
+            command.setName(readString());
+        }
+        if ((mask & Trace.PRICE) != 0) {
+            command.setPrice(readInt());
+        }
+        if ((mask & Trace.DATE) != 0) {
+            command.setDate(readString());
+        }
+        if ((mask & Trace.DESCRIPTION) != 0) {
+            command.setDescription(readString());
+        }
+        if ((mask & Trace.SONGS) != 0) {
+            int size = readVarint();
+            ArrayList<SongInput> songs = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                songs.add(readSong());
+            }
+            command.setSongs(songs);
+        }
+        if ((mask & Trace.RELEASE_YEAR) != 0) {
+            command.setReleaseYear(readInt());
+        }
+        if ((mask & Trace.NEXT_PAGE) != 0) {
+            command.setNextPage(readString());
+        }
+        if ((mask & Trace.RECOMMENDATION_TYPE) != 0) {
+            command.setRecommendationType(readString());
+        }
+        return command;
+    }
+
+    private FiltersInput readFilters() throws IOException {
+        FiltersInput filters = new FiltersInput();
+        int mask = readVarint();
+
+        if ((mask & Trace.FILTER_NAME) != 0) {
+            filters.setName(readString());
+        }
+        if ((mask & Trace.FILTER_ALBUM) != 0) {
+            filters.setAlbum(readString());
+        }
+        if ((mask & Trace.FILTER_TAGS) != 0) {
+            filters.setTags(readStrings());
+        }
+        if ((mask & Trace.FILTER_LYRICS) != 0) {
+            filters.setLyrics(readString());
+        }
+        if ((mask & Trace.FILTER_GENRE) != 0) {
+            filters.setGenre(readString());
+        }
+        if ((mask & Trace.FILTER_RELEASE_YEAR) != 0) {
+            filters.setReleaseYear(readString());
+        }
+        if ((mask & Trace.FILTER_ARTIST) != 0) {
+            filters.setArtist(readString());
+        }
+        if ((mask & Trace.FILTER_OWNER) != 0) {
+            filters.setOwner(readString());
+        }
+        if ((mask & Trace.FILTER_FOLLOWERS) != 0) {
+            filters.setFollowers(readString());
+        }
+        if ((mask & Trace.FILTER_DESCRIPTION) != 0) {
+            filters.setDescription(readString());
+        }
+        return filters;
+    }
+
+    private EpisodeInput readEpisode() throws IOException {
+        EpisodeInput episode = new EpisodeInput();
+        int mask = readVarint();
+
+        if ((mask & Trace.EPISODE_NAME) != 0) {
+            episode.setName(readString());
+        }
+        if ((mask & Trace.EPISODE_DURATION) != 0) {
+            episode.setDuration(readInt());
+        }
+        if ((mask & Trace.EPISODE_DESCRIPTION) != 0) {
+            episode.setDescription(readString());
+        }
+        return episode;
+    }
+
+    private SongInput readSong() throws IOException {
+        SongInput song = new SongInput();
+        int mask = readVarint();
+
+        if ((mask & Trace.SONG_NAME) != 0) {
+            song.setName(readString());
+        }
+        if ((mask & Trace.SONG_DURATION) != 0) {
+            song.setDuration(readInt());
+        }
+        if ((mask & Trace.SONG_ALBUM) != 0) {
+            song.setAlbum(readString());
+        }
+        if ((mask & Trace.SONG_TAGS) != 0) {
+            song.setTags(readStrings());
+        }
+        if ((mask & Trace.SONG_LYRICS) != 0) {
+            song.setLyrics(readString());
+        }
+        if ((mask & Trace.SONG_GENRE) != 0) {
+            song.setGenre(readString());
+        }
+        if ((mask & Trace.SONG_RELEASE_YEAR) != 0) {
+            song.setReleaseYear(readInt());
+        }
+        if ((mask & Trace.SONG_ARTIST) != 0) {
+            song.setArtist(readString());
+        }
+        return song;
+    }
+
+    private ArrayList<String> readStrings() throws IOException {
+        int size = readVarint();
+        ArrayList<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    private String readString() throws IOException {
+        int reference = readVarint();
+        if (reference != Trace.NEW_STRING) {
+            if (reference > strings.size()) {
+                throw new IOException("Unknown string reference " + reference);
+            }
+            return strings.get(reference - 1);
+        }
+
+        int length = readVarint();
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("Trace ends inside a string");
+        }
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        strings.add(value);
+        return value;
+    }
+
+    private int readInt() throws IOException {
+        int value = readVarint();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift <= MAX_VARINT_SHIFT; shift += Trace.VARINT_SHIFT) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Trace ends before its end tag");
+            }
+            value |= (b & Trace.VARINT_PAYLOAD) << shift;
+            if ((b & Trace.VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in trace");
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,327 @@
+package fileio.input;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes commands to a binary trace, in the layout described by {@link Trace}.
+ *
+ * Traces hold the same commands as the JSON inputs, but are much smaller and can be replayed
+ * by {@link TraceReader} without any text parsing.
+ */
+public final class TraceWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private int lastTimestamp;
+    private boolean closed;
+
+    /**
+     * Instantiates a new Trace writer and writes the header of the trace.
+     *
+     * @param path the trace file
+     * @throws IOException if the trace file can't be written
+     */
+    public TraceWriter(final Path path) throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE);
+        out.write(Trace.MAGIC);
+        writeVarint(Trace.VERSION);
+    }
+
+    /**
+     * Converts a JSON input file to a binary trace.
+     *
+     * @param objectMapper the object mapper used to read the input
+     * @param input        the JSON input file
+     * @param trace        the trace file
+     * @return the number of commands converted
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static int convert(final ObjectMapper objectMapper, final File input,
+                              final Path trace) throws IOException {
+        int count = 0;
+        try (CommandReader commands = new CommandReader(objectMapper, input);
+             TraceWriter writer = new TraceWriter(trace)) {
+            while (commands.hasNext()) {
+                writer.write(commands.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes a command.
+     *
+     * @param command the command input
+     * @throws IOException in case of exceptions to writing
+     */
+    public void write(final CommandInput command) throws IOException {
+        CommandType type = command.getCommandType();
+        if (type != null) {
+            writeVarint(type.ordinal() + Trace.FIRST_TYPE);
+        } else if (command.getCommand() != null) {
+            writeVarint(Trace.UNKNOWN);
+            writeString(command.getCommand());
+        } else {
+            throw new IOException("Can't write a command without a name");
+        }
+
+        int mask = flag(command.getUsername(), Trace.USERNAME)
+                   | flag(command.getTimestamp(), Trace.TIMESTAMP)
+                   | flag(command.getType(), Trace.TYPE)
+                   | flag(command.getFilters(), Trace.FILTERS)
+                   | flag(command.getItemNumber(), Trace.ITEM_NUMBER)
+                   | flag(command.getRepeatMode(), Trace.REPEAT_MODE)
+                   | flag(command.getPlaylistId(), Trace.PLAYLIST_ID)
+                   | flag(command.getPlaylistName(), Trace.PLAYLIST_NAME)
+                   | flag(command.getSeed(), Trace.SEED)
+                   | (command.getAge() != 0 ? Trace.AGE : 0)
+                   | flag(command.getCity(), Trace.CITY)
+                   | flag(command.getEpisodes(), Trace.EPISODES)
+                   | flag(command.getName(), Trace.NAME)
+                   | flag(command.getPrice(), Trace.PRICE)
+                   | flag(command.getDate(), Trace.DATE)
+                   | flag(command.getDescription(), Trace.DESCRIPTION)
+                   | flag(command.getSongs(), Trace.SONGS)
+                   | flag(command.getReleaseYear(), Trace.RELEASE_YEAR)
+                   | flag(command.getNextPage(), Trace.NEXT_PAGE)
+                   | flag(command.getRecommendationType(), Trace.RECOMMENDATION_TYPE);
+        writeVarint(mask);
+
+        if ((mask & Trace.USERNAME) != 0) {
+            writeString(command.getUsername());
+        }
+        if ((mask & Trace.TIMESTAMP) != 0) {
+            writeInt(command.getTimestamp() - lastTimestamp);
+            lastTimestamp = command.getTimestamp();
+        }
+        if ((mask & Trace.TYPE) != 0) {
+            writeString(command.getType());
+        }
+        if ((mask & Trace.FILTERS) != 0) {
+            writeFilters(command.getFilters());
+        }
+        if ((mask & Trace.ITEM_NUMBER) != 0) {
+            writeInt(command.getItemNumber());
+        }
+        if ((mask & Trace.REPEAT_MODE) != 0) {
+            writeInt(command.getRepeatMode());
+        }
+        if ((mask & Trace.PLAYLIST_ID) != 0) {
+            writeInt(command.getPlaylistId());
+        }
+        if ((mask & Trace.PLAYLIST_NAME) != 0) {
+            writeString(command.getPlaylistName());
+        }
+        if ((mask & Trace.SEED) != 0) {
+            writeInt(command.getSeed());
+        }
+        if ((mask & Trace.AGE) != 0) {
+            writeInt(command.getAge());
+        }
+        if ((mask & Trace.CITY) != 0) {
+            writeString(command.getCity());
+        }
+        if ((mask & Trace.EPISODES) != 0) {
+            writeVarint(command.getEpisodes().size());
+            for (EpisodeInput episode : command.getEpisodes()) {
+                writeEpisode(episode);
+            }
+        }
+        if ((mask & Trace.NAME) != 0) {
+            writeString(command.getName());
+        }
+        if ((mask & Trace.PRICE) != 0) {
+            writeInt(command.getPrice());
+        }
+        if ((mask & Trace.DATE) != 0) {
+            writeString(command.getDate());
+        }
+        if ((mask & Trace.DESCRIPTION) != 0) {
+            writeString(command.getDescription());
+        }
+        if ((mask & Trace.SONGS) != 0) {
+            writeVarint(command.getSongs().size());
+            for (SongInput song : command.getSongs()) {
+                writeSong(song);
+            }
+        }
+        if ((mask & Trace.RELEASE_YEAR) != 0) {
+            writeInt(command.getReleaseYear());
+        }
+        if ((mask & Trace.NEXT_PAGE) != 0) {
+            writeString(command.getNextPage());
+        }
+        if ((mask & Trace.RECOMMENDATION_TYPE) != 0) {
+            writeString(command.getRecommendationType());
+        }
+    }
+
+    private void writeFilters(final FiltersInput filters) throws IOException {
+        int mask = flag(filters.getName(), Trace.FILTER_NAME)
+                   | flag(filters.getAlbum(), Trace.FILTER_ALBUM)
+                   | flag(filters.getTags(), Trace.FILTER_TAGS)
+                   | flag(filters.getLyrics(), Trace.FILTER_LYRICS)
+                   | flag(filters.getGenre(), Trace.FILTER_GENRE)
+                   | flag(filters.getReleaseYear(), Trace.FILTER_RELEASE_YEAR)
+                   | flag(filters.getArtist(), Trace.FILTER_ARTIST)
+                   | flag(filters.getOwner(), Trace.FILTER_OWNER)
+                   | flag(filters.getFollowers(), Trace.FILTER_FOLLOWERS)
+                   | flag(filters.getDescription(), Trace.FILTER_DESCRIPTION);
+        writeVarint(mask);
+
+        if ((mask & Trace.FILTER_NAME) != 0) {
+            writeString(filters.getName());
+        }
+        if ((mask & Trace.FILTER_ALBUM) != 0) {
+            writeString(filters.getAlbum());
+        }
+        if ((mask & Trace.FILTER_TAGS) != 0) {
+            writeStrings(filters.getTags());
+        }
+        if ((mask & Trace.FILTER_LYRICS) != 0) {
+            writeString(filters.getLyrics());
+        }
+        if ((mask & Trace.FILTER_GENRE) != 0) {
+            writeString(filters.getGenre());
+        }
+        if ((mask & Trace.FILTER_RELEASE_YEAR) != 0) {
+            writeString(filters.getReleaseYear());
+        }
+        if ((mask & Trace.FILTER_ARTIST) != 0) {
+            writeString(filters.getArtist());
+        }
+        if ((mask & Trace.FILTER_OWNER) != 0) {
+            writeString(filters.getOwner());
+        }
+        if ((mask & Trace.FILTER_FOLLOWERS) != 0) {
+            writeString(filters.getFollowers());
+        }
+        if ((mask & Trace.FILTER_DESCRIPTION) != 0) {
+            writeString(filters.getDescription());
+        }
+    }
+
+    private void writeEpisode(final EpisodeInput episode) throws IOException {
+        int mask = flag(episode.getName(), Trace.EPISODE_NAME)
+                   | flag(episode.getDuration(), Trace.EPISODE_DURATION)
+                   | flag(episode.getDescription(), Trace.EPISODE_DESCRIPTION);
+        writeVarint(mask);
+
+        if ((mask & Trace.EPISODE_NAME) != 0) {
+            writeString(episode.getName());
+        }
+        if ((mask & Trace.EPISODE_DURATION) != 0) {
+            writeInt(episode.getDuration());
+        }
+        if ((mask & Trace.EPISODE_DESCRIPTION) != 0) {
+            writeString(episode.getDescription());
+        }
+    }
+
+    private void writeSong(final SongInput song) throws IOException {
+        int mask = flag(song.getName(), Trace.SONG_NAME)
+                   | flag(song.getDuration(), Trace.SONG_DURATION)
+                   | flag(song.getAlbum(), Trace.SONG_ALBUM)
+                   | flag(song.getTags(), Trace.SONG_TAGS)
+                   | flag(song.getLyrics(), Trace.SONG_LYRICS)
+                   | flag(song.getGenre(), Trace.SONG_GENRE)
+                   | flag(song.getReleaseYear(), Trace.SONG_RELEASE_YEAR)
+                   | flag(song.getArtist(), Trace.SONG_ARTIST);
+        writeVarint(mask);
+
+        if ((mask & Trace.SONG_NAME) != 0) {
+            writeString(song.getName());
+        }
+        if ((mask & Trace.SONG_DURATION) != 0) {
+            writeInt(song.getDuration());
+        }
+        if ((mask & Trace.SONG_ALBUM) != 0) {
+            writeString(song.getAlbum());
+        }
+        if ((mask & Trace.SONG_TAGS) != 0) {
+            writeStrings(song.getTags());
+        }
+        if ((mask & Trace.SONG_LYRICS) != 0) {
+            writeString(song.getLyrics());
+        }
+        if ((mask & Trace.SONG_GENRE) != 0) {
+            writeString(song.getGenre());
+        }
+        if ((mask & Trace.SONG_RELEASE_YEAR) != 0) {
+            writeInt(song.getReleaseYear());
+        }
+        if ((mask & Trace.SONG_ARTIST) != 0) {
+            writeString(song.getArtist());
+        }
+    }
+
+    private static int flag(final Object value, final int bit) {
+        return value == null ? 0 : bit;
+    }
+
+    private void writeStrings(final List<String> values) throws IOException {
+        writeVarint(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    private void writeString(final String value) throws IOException {
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarint(index + 1);
+            return;
+        }
+
+        strings.put(value, strings.size());
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(Trace.NEW_STRING);
+        writeVarint(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeInt(final int value) throws IOException {
+        writeVarint((value << 1) ^ (value >> (Integer.SIZE - 1)));
+    }
+
+    private void writeVarint(final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~Trace.VARINT_PAYLOAD) != 0) {
+            out.write((remaining & Trace.VARINT_PAYLOAD) | Trace.VARINT_MORE);
+            remaining >>>= Trace.VARINT_SHIFT;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Ends the trace and closes the file.
+     *
+     * @throws IOException in case of exceptions to writing
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writeVarint(Trace.END);
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package fileio.output;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the results of the commands to the output file as soon as they are produced.
+ *
+ * The output is the same JSON array the checker expects, but instead of keeping every result
+ * in memory until the end of the run, each one is streamed through a generator into a buffer
+ * that reaches the file whenever it fills up. A writer can instead flush every result right
+ * away, so the output can be followed while the run is still going, at the cost of one write
+ * to the file per command.
+ */
+public final class ResultWriter implements Closeable, Flushable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final JsonGenerator generator;
+    private final boolean flushEachResult;
+    private boolean closed;
+
+    /**
+     * Instantiates a new Result writer, which only writes to the file when its buffer is full,
+     * and opens the array of results.
+     *
+     * @param objectMapper the object mapper used to write each result
+     * @param path         the output file
+     * @param pretty       whether to indent the output like the default pretty printer
+     * @throws IOException if the output file can't be opened
+     */
+    public ResultWriter(final ObjectMapper objectMapper, final Path path,
+                        final boolean pretty) throws IOException {
+        this(objectMapper, path, pretty, false);
+    }
+
+    /**
+     * Instantiates a new Result writer and opens the array of results.
+     *
+     * @param objectMapper    the object mapper used to write each result
+     * @param path            the output file
+     * @param pretty          whether to indent the output like the default pretty printer
+     * @param flushEachResult whether to flush every result to the file as soon as it is
+     *                        written, so the file can be tailed
+     * @throws IOException if the output file can't be opened
+     */
+    public ResultWriter(final ObjectMapper objectMapper, final Path path, final boolean pretty,
+                        final boolean flushEachResult) throws IOException {
+        this.flushEachResult = flushEachResult;
+        generator = objectMapper.getFactory()
+                                .createGenerator(new BufferedOutputStream(
+                                        Files.newOutputStream(path), BUFFER_SIZE));
+        if (pretty) {
+            generator.useDefaultPrettyPrinter();
+        }
+        generator.writeStartArray();
+    }
+
+    /**
+     * Writes the result of a command, and flushes it to the file if the writer flushes every
+     * result.
+     *
+     * @param result the result, written as a JSON null if missing
+     * @throws IOException in case of exceptions to writing
+     */
+    public void write(final JsonNode result) throws IOException {
+        generator.writeTree(result);
+        if (flushEachResult) {
+            generator.flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    /**
+     * Closes the array of results and the output file.
+     *
+     * @throws IOException in case of exceptions to writing
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            generator.writeEndArray();
+        } finally {
+            generator.close();
+        }
+    }
+}
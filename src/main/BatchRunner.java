@@ -0,0 +1,87 @@
+package main;
+
+import checker.Checker;
+import checker.CheckerConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs every input file like {@link Main}, but processes the files in parallel.
+ *
+ * Every run works on its own platform context, so the files can be processed on as many threads
+ * as there are cores. The results are the same as the ones of a sequential run.
+ */
+public final class BatchRunner {
+    /**
+     * for coding style
+     */
+    private BatchRunner() {
+    }
+
+    /**
+     * Runs the input files in parallel and calls the checker.
+     *
+     * @param args optionally the number of threads, the number of cores by default, and then
+     *             the most songs and fans of each artist whose listens are counted, with
+     *             approximate counts, 0 by default to count all of them exactly
+     * @throws IOException          in case of exceptions to reading / writing
+     * @throws InterruptedException if interrupted while waiting for the runs
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0])
+                                      : Runtime.getRuntime().availableProcessors();
+        int artistStatisticsCapacity = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        File directory = new File(CheckerConstants.TESTS_PATH);
+        Path path = Paths.get(CheckerConstants.RESULT_PATH);
+
+        if (Files.exists(path)) {
+            File resultFile = new File(String.valueOf(path));
+            for (File file : Objects.requireNonNull(resultFile.listFiles())) {
+                file.delete();
+            }
+            resultFile.delete();
+        }
+        Files.createDirectories(path);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> runs = new ArrayList<>();
+        try {
+            for (File file : Objects.requireNonNull(directory.listFiles())) {
+                if (file.getName().startsWith("library")) {
+                    continue;
+                }
+
+                String filepath = CheckerConstants.OUT_PATH + file.getName();
+                if (new File(filepath).createNewFile()) {
+                    runs.add(executor.submit(() -> {
+                        Main.action(file.getName(), filepath, artistStatisticsCapacity);
+                        return null;
+                    }));
+                }
+            }
+
+            for (Future<?> run : runs) {
+                try {
+                    run.get();
+                } catch (ExecutionException e) {
+                    throw new IOException("A run failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Checker.calculateScore();
+    }
+}
@@ -1,15 +1,17 @@
 package main;
 
-import app.Admin;
 import app.CommandRunner;
-import app.searchBar.SearchBar;
+import app.PlatformContext;
+import app.catalog.Catalog;
+import app.commands.CommandPipeline;
 import checker.Checker;
 import checker.CheckerConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import fileio.input.CommandInput;
-import fileio.input.LibraryInput;
+import fileio.input.CommandReader;
+import fileio.input.CommandSource;
+import fileio.input.TraceReader;
+import fileio.output.ResultWriter;
 
 import java.io.File;
 import java.io.IOException;
@@ -70,98 +72,62 @@ public final class Main {
      */
     public static void action(final String filePath1,
                               final String filePath2) throws IOException {
+        action(filePath1, filePath2, 0);
+    }
+
+    /**
+     * Runs an input file, optionally with approximate artist statistics.
+     *
+     * @param filePath1                for input file
+     * @param filePath2                for output file
+     * @param artistStatisticsCapacity the most songs and fans of each artist whose listens are
+     *                                 counted, with approximate counts, or 0 to count all of
+     *                                 them exactly
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void action(final String filePath1, final String filePath2,
+                              final int artistStatisticsCapacity) throws IOException {
         ObjectMapper objectMapper = new ObjectMapper();
-        LibraryInput library = objectMapper.readValue(new File(CheckerConstants.TESTS_PATH
-                                                               + "library/library.json"),
-                                                               LibraryInput.class);
-        CommandInput[] commands = objectMapper.readValue(new File(CheckerConstants.TESTS_PATH
-                                                                  + filePath1),
-                                                                  CommandInput[].class);
+        Catalog catalog = Catalog.load(new File(CheckerConstants.TESTS_PATH
+                                                + "library/library.json"));
         if (!filePath1.contains("04")) {
             return;
         }
-        ArrayNode outputs = objectMapper.createArrayNode();
-        Admin admin = Admin.getInstance();
-        SearchBar.updateAdmin();
-        admin.setUsers(library.getUsers());
-        admin.setSongs(library.getSongs());
-        admin.setPodcasts(library.getPodcasts());
-        CommandRunner.updateAdmin();
-        Admin.getInstance().setAd(Admin.getInstance().getSongs().get(0));
-
-        for (CommandInput command : commands) {
-            admin.updateTimestamp(command.getTimestamp());
-
-            String commandName = command.getCommand();
+        PlatformContext context = PlatformContext.open(catalog, artistStatisticsCapacity);
+        CommandRunner commandRunner = new CommandRunner(context);
+        CommandPipeline pipeline = new CommandPipeline(objectMapper, context, commandRunner);
 
-            switch (commandName) {
-                case "search" -> outputs.add(CommandRunner.search(command));
-                case "select" -> outputs.add(CommandRunner.select(command));
-                case "load" -> outputs.add(CommandRunner.load(command));
-                case "playPause" -> outputs.add(CommandRunner.playPause(command));
-                case "repeat" -> outputs.add(CommandRunner.repeat(command));
-                case "shuffle" -> outputs.add(CommandRunner.shuffle(command));
-                case "forward" -> outputs.add(CommandRunner.forward(command));
-                case "backward" -> outputs.add(CommandRunner.backward(command));
-                case "like" -> outputs.add(CommandRunner.like(command));
-                case "next" -> outputs.add(CommandRunner.next(command));
-                case "prev" -> outputs.add(CommandRunner.prev(command));
-                case "createPlaylist" -> outputs.add(CommandRunner.createPlaylist(command));
-                case "addRemoveInPlaylist" -> outputs.add(CommandRunner
-                                                     .addRemoveInPlaylist(command));
-                case "switchVisibility" -> outputs.add(CommandRunner.switchVisibility(command));
-                case "showPlaylists" -> outputs.add(CommandRunner.showPlaylists(command));
-                case "follow" -> outputs.add(CommandRunner.follow(command));
-                case "status" -> outputs.add(CommandRunner.status(command));
-                case "showPreferredSongs" -> outputs.add(CommandRunner.showLikedSongs(command));
-                case "getPreferredGenre" -> outputs.add(CommandRunner.getPreferredGenre(command));
-                case "getTop5Songs" -> outputs.add(CommandRunner.getTop5Songs(command));
-                case "getTop5Playlists" -> outputs.add(CommandRunner.getTop5Playlists(command));
-                case "switchConnectionStatus" -> outputs.add(CommandRunner
-                                                        .switchConnectionStatus(command));
-                case "addUser" -> outputs.add(CommandRunner.addUser(command));
-                case "deleteUser" -> outputs.add(CommandRunner.deleteUser(command));
-                case "addPodcast" -> outputs.add(CommandRunner.addPodcast(command));
-                case "removePodcast" -> outputs.add(CommandRunner.removePodcast(command));
-                case "addAnnouncement" -> outputs.add(CommandRunner.addAnnouncement(command));
-                case "removeAnnouncement" -> outputs.add(CommandRunner
-                                                    .removeAnnouncement(command));
-                case "addAlbum" -> outputs.add(CommandRunner.addAlbum(command));
-                case "removeAlbum" -> outputs.add(CommandRunner.removeAlbum(command));
-                case "addEvent" -> outputs.add(CommandRunner.addEvent(command));
-                case "removeEvent" -> outputs.add(CommandRunner.removeEvent(command));
-                case "addMerch" -> outputs.add(CommandRunner.addMerch(command));
-                case "changePage" -> outputs.add(CommandRunner.changePage(command));
-                case "printCurrentPage" -> outputs.add(CommandRunner.printCurrentPage(command));
-                case "getTop5Albums" -> outputs.add(CommandRunner.getTop5AlbumList(command));
-                case "getTop5Artists" -> outputs.add(CommandRunner.getTop5ArtistList(command));
-                case "getAllUsers" -> outputs.add(CommandRunner.getAllUsers(command));
-                case "getOnlineUsers" -> outputs.add(CommandRunner.getOnlineUsers(command));
-                case "showAlbums" -> outputs.add(CommandRunner.showAlbums(command));
-                case "showPodcasts" -> outputs.add(CommandRunner.showPodcasts(command));
-                case "wrapped" -> outputs.add(CommandRunner.wrapped(command));
-                case "buyPremium" -> outputs.add(CommandRunner.buyPremium(command));
-                case "cancelPremium" -> outputs.add(CommandRunner.cancelPremium(command));
-                case "adBreak" -> outputs.add(CommandRunner.adBreak(command));
-                case "buyMerch" -> outputs.add(CommandRunner.buyMerch(command));
-                case "seeMerch" -> outputs.add(CommandRunner.seeMerch(command));
-                case "updateRecommendations" -> outputs.add(CommandRunner
-                                                         .updateRecommendations(command));
-                case "subscribe" -> outputs.add(CommandRunner.subscribe(command));
-                case "getNotifications" -> outputs.add(CommandRunner.getNotifications(command));
-                case "previousPage" -> outputs.add(CommandRunner.previousPage(command));
-                case "nextPage" -> outputs.add(CommandRunner.nextPage(command));
-                case "loadRecommendations" -> outputs.add(CommandRunner
-                                                        .loadRecommendations(command));
-                default -> System.out.println("Invalid command " + commandName);
+        File input = new File(CheckerConstants.TESTS_PATH + filePath1);
+        try (CommandSource commands = TraceReader.isTrace(filePath1)
+                                      ? new TraceReader(input)
+                                      : new CommandReader(objectMapper, input);
+             ResultWriter results = new ResultWriter(objectMapper, Paths.get(filePath2),
+                                                     true)) {
+            while (commands.hasNext()) {
+                dispatch(commands.next(), context, pipeline, results);
             }
+            results.write(commandRunner.endProgramm());
         }
+    }
 
-        outputs.add(CommandRunner.endProgramm());
-        ObjectWriter objectWriter = objectMapper.writerWithDefaultPrettyPrinter();
-        objectWriter.writeValue(new File(filePath2), outputs);
+    /**
+     * Runs a single command as soon as it has been decoded and writes its output.
+     *
+     * @param command  the command input
+     * @param context  the context of the run
+     * @param pipeline the pipeline running the commands
+     * @param results  the writer of the results
+     * @throws IOException in case of exceptions to writing
+     */
+    private static void dispatch(final CommandInput command, final PlatformContext context,
+                                 final CommandPipeline pipeline,
+                                 final ResultWriter results) throws IOException {
+        context.getAdmin().updateTimestamp(command.getTimestamp());
 
-        Admin.resetInstance();
+        if (!pipeline.canRun(command)) {
+            System.out.println("Invalid command " + command.getCommand());
+            return;
+        }
+        results.write(pipeline.run(command));
     }
 }
-
@@ -0,0 +1,39 @@
+package main;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fileio.input.TraceWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Converts JSON command inputs to binary traces, which {@link Main} replays like the inputs.
+ */
+public final class TraceConverter {
+    /**
+     * for coding style
+     */
+    private TraceConverter() {
+    }
+
+    /**
+     * Converts every pair of files given on the command line.
+     *
+     * @param args pairs of JSON inputs and the traces to write them to
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length == 0 || args.length % 2 != 0) {
+            System.err.println("Usage: TraceConverter <input.json> <output.trace> ...");
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (int i = 0; i < args.length; i += 2) {
+            File input = new File(args[i]);
+            int count = TraceWriter.convert(objectMapper, input, Paths.get(args[i + 1]));
+            System.out.println("Converted " + count + " commands from " + input.getName());
+        }
+    }
+}